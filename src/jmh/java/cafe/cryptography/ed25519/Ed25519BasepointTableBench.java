@@ -0,0 +1,46 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519BasepointTableBench {
+    @Param({ "DEFAULT", "RADIX_16", "RADIX_32", "RADIX_64" })
+    public Ed25519BasepointTable table;
+
+    public Ed25519PrivateKey sk;
+    public Ed25519ExpandedPrivateKey expsk;
+    public byte[] message;
+
+    @Setup
+    public void prepare() {
+        SecureRandom r = new SecureRandom();
+        this.sk = Ed25519PrivateKey.generate(r);
+        this.expsk = this.sk.expand(this.table);
+        this.message = new byte[64];
+        r.nextBytes(this.message);
+    }
+
+    @Benchmark
+    public Ed25519ExpandedPrivateKey expand() {
+        return this.sk.expand(this.table);
+    }
+
+    @Benchmark
+    public Ed25519Signature sign() {
+        return this.expsk.sign(this.message);
+    }
+}
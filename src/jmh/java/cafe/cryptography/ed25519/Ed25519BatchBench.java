@@ -0,0 +1,77 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519BatchBench {
+    @Param({ "4", "16", "64", "256", "1024", "4096" })
+    public int batchSize;
+
+    public Ed25519ExpandedPrivateKey[] sks;
+    public Ed25519PublicKey[] vks;
+    public byte[][] messages;
+    public Ed25519Signature[] signatures;
+
+    @Setup
+    public void prepare() {
+        SecureRandom r = new SecureRandom();
+        this.sks = new Ed25519ExpandedPrivateKey[this.batchSize];
+        this.vks = new Ed25519PublicKey[this.batchSize];
+        this.messages = new byte[this.batchSize][];
+        this.signatures = new Ed25519Signature[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            Ed25519ExpandedPrivateKey expsk = Ed25519PrivateKey.generate(r).expand();
+            this.sks[i] = expsk;
+            this.vks[i] = expsk.derivePublic();
+            this.messages[i] = new byte[64];
+            r.nextBytes(this.messages[i]);
+            this.signatures[i] = expsk.sign(this.messages[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean verifyBatch() {
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        for (int i = 0; i < this.batchSize; i++) {
+            batch.queue(this.vks[i], this.messages[i], this.signatures[i]);
+        }
+        return batch.verify();
+    }
+
+    @Benchmark
+    public boolean verifyEach() {
+        boolean valid = true;
+        for (int i = 0; i < this.batchSize; i++) {
+            valid &= this.vks[i].verify(this.messages[i], this.signatures[i]);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public Ed25519Signature[] signBatch() {
+        return Ed25519ExpandedPrivateKey.signBatch(this.sks, this.messages);
+    }
+
+    @Benchmark
+    public Ed25519Signature[] signEach() {
+        Ed25519Signature[] signatures = new Ed25519Signature[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            signatures[i] = this.sks[i].sign(this.messages[i]);
+        }
+        return signatures;
+    }
+}
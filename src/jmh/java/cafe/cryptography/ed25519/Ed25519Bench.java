@@ -21,7 +21,10 @@ public class Ed25519Bench {
     public SecureRandom r;
     public Ed25519PrivateKey sk;
     public Ed25519ExpandedPrivateKey expsk;
+    public Ed25519Signer signer;
+    public byte[] signatureOut;
     public Ed25519PublicKey vk;
+    public Ed25519PreparedPublicKey preparedVk;
     public byte[] message;
     public Ed25519Signature signature;
 
@@ -30,7 +33,10 @@ public class Ed25519Bench {
         this.r = new SecureRandom();
         this.sk = Ed25519PrivateKey.generate(this.r);
         this.expsk = this.sk.expand();
+        this.signer = this.expsk.signer();
+        this.signatureOut = new byte[64];
         this.vk = this.sk.derivePublic();
+        this.preparedVk = this.vk.prepare();
         this.message = new byte[64];
         r.nextBytes(this.message);
         this.signature = this.sk.expand().sign(this.message);
@@ -46,8 +52,19 @@ public class Ed25519Bench {
         return this.expsk.sign(this.message);
     }
 
+    @Benchmark
+    public byte[] signWithSigner() {
+        this.signer.sign(this.message, 0, this.message.length, this.signatureOut, 0);
+        return this.signatureOut;
+    }
+
     @Benchmark
     public boolean verify() {
         return this.vk.verify(this.message, this.signature);
     }
+
+    @Benchmark
+    public boolean verifyPrepared() {
+        return this.preparedVk.verify(this.message, this.signature);
+    }
 }
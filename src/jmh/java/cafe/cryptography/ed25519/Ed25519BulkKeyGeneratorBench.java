@@ -0,0 +1,48 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures bulk key generation against generating and deriving each key
+ * separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519BulkKeyGeneratorBench {
+    @Param({ "4", "16", "64", "256", "1024", "4096" })
+    public int batchSize;
+
+    public SecureRandom random;
+
+    @Setup
+    public void prepare() {
+        this.random = new SecureRandom();
+    }
+
+    @Benchmark
+    public Ed25519BulkKeyGenerator.Keys keygenBulk() {
+        return Ed25519BulkKeyGenerator.generate(this.random, this.batchSize);
+    }
+
+    @Benchmark
+    public Ed25519PublicKey[] keygenEach() {
+        Ed25519PublicKey[] keys = new Ed25519PublicKey[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            keys[i] = Ed25519PrivateKey.generate(this.random).derivePublic();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures independent verification of a set of signatures, for comparison
+ * with {@link Ed25519BatchBench#verifyEach()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519IndependentVerifierBench {
+    @Param({ "4", "16", "64", "256", "1024", "4096" })
+    public int batchSize;
+
+    public Ed25519PublicKey[] vks;
+    public byte[][] messages;
+    public Ed25519Signature[] signatures;
+
+    @Setup
+    public void prepare() {
+        SecureRandom r = new SecureRandom();
+        this.vks = new Ed25519PublicKey[this.batchSize];
+        this.messages = new byte[this.batchSize][];
+        this.signatures = new Ed25519Signature[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            Ed25519ExpandedPrivateKey expsk = Ed25519PrivateKey.generate(r).expand();
+            this.vks[i] = expsk.derivePublic();
+            this.messages[i] = new byte[64];
+            r.nextBytes(this.messages[i]);
+            this.signatures[i] = expsk.sign(this.messages[i]);
+        }
+    }
+
+    @Benchmark
+    public BitSet verifyIndependent() {
+        Ed25519IndependentVerifier verifier = new Ed25519IndependentVerifier();
+        for (int i = 0; i < this.batchSize; i++) {
+            verifier.queue(this.vks[i], this.messages[i], this.signatures[i]);
+        }
+        return verifier.verify();
+    }
+}
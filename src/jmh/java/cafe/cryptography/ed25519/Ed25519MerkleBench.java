@@ -0,0 +1,61 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures Merkle batch signing and root-caching verification, for comparison
+ * with {@link Ed25519BatchBench#signEach()} and
+ * {@link Ed25519BatchBench#verifyEach()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519MerkleBench {
+    @Param({ "4", "16", "64", "256", "1024", "4096" })
+    public int batchSize;
+
+    public Ed25519ExpandedPrivateKey sk;
+    public Ed25519PublicKey vk;
+    public byte[][] messages;
+    public Ed25519MerkleProof[] proofs;
+
+    @Setup
+    public void prepare() {
+        SecureRandom r = new SecureRandom();
+        this.sk = Ed25519PrivateKey.generate(r).expand();
+        this.vk = this.sk.derivePublic();
+        this.messages = new byte[this.batchSize][];
+        for (int i = 0; i < this.batchSize; i++) {
+            this.messages[i] = new byte[64];
+            r.nextBytes(this.messages[i]);
+        }
+        this.proofs = this.sk.signMerkle(this.messages);
+    }
+
+    @Benchmark
+    public Ed25519MerkleProof[] signMerkle() {
+        return this.sk.signMerkle(this.messages);
+    }
+
+    @Benchmark
+    public boolean verifyMerkle() {
+        Ed25519MerkleVerifier verifier = new Ed25519MerkleVerifier(this.vk, 1);
+        boolean valid = true;
+        for (int i = 0; i < this.batchSize; i++) {
+            valid &= verifier.verify(this.messages[i], this.proofs[i]);
+        }
+        return valid;
+    }
+}
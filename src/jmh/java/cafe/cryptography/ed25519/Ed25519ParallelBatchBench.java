@@ -0,0 +1,57 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time per signature of parallel batch verification, for
+ * comparison with {@link Ed25519Bench#verify()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ed25519ParallelBatchBench {
+    static final int BATCH_SIZE = 16384;
+
+    @Param({ "1", "2", "4", "8", "16", "32", "64" })
+    public int threads;
+
+    public ForkJoinPool pool;
+    public Ed25519BatchVerifier batch;
+
+    @Setup
+    public void prepare() {
+        SecureRandom r = new SecureRandom();
+        this.pool = new ForkJoinPool(this.threads);
+        this.batch = new Ed25519BatchVerifier(r);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Ed25519ExpandedPrivateKey expsk = Ed25519PrivateKey.generate(r).expand();
+            byte[] message = new byte[64];
+            r.nextBytes(message);
+            this.batch.queue(expsk.derivePublic(), message, expsk.sign(message));
+        }
+    }
+
+    @TearDown
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean verifyParallel() {
+        return this.batch.verify(this.pool);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time to create the first signature in a fresh JVM, including
+ * class initialization and table construction.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class Ed25519StartupBench {
+    @Param({ "DEFAULT", "RADIX_16", "RADIX_32" })
+    public String table;
+
+    public byte[] secret;
+    public byte[] message;
+
+    @Setup
+    public void prepare() {
+        this.secret = new byte[32];
+        this.message = new byte[64];
+    }
+
+    @Benchmark
+    public Ed25519Signature firstSignature() {
+        Ed25519BasepointTable table = Ed25519BasepointTable.valueOf(this.table);
+        return Ed25519PrivateKey.fromByteArray(this.secret).expand(table).sign(this.message);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+/**
+ * A pre-computed point on the affine model of the curve, represented as
+ * (y+x, y-x, 2dxy) in "Niels coordinates".
+ */
+final class AffineNielsPoint {
+    final FieldElement yPlusx;
+    final FieldElement yMinusx;
+    final FieldElement xy2D;
+
+    AffineNielsPoint(FieldElement yPlusx, FieldElement yMinusx, FieldElement xy2D) {
+        this.yPlusx = yPlusx;
+        this.yMinusx = yMinusx;
+        this.xy2D = xy2D;
+    }
+
+    /**
+     * Convert an extended point to Niels coordinates, given the inverse of its
+     * Z coordinate.
+     */
+    static AffineNielsPoint fromExtended(ExtendedPoint P, FieldElement Zinv) {
+        FieldElement x = P.X.multiply(Zinv);
+        FieldElement y = P.Y.multiply(Zinv);
+        return new AffineNielsPoint(y.add(x), y.subtract(x), x.multiply(y).multiply(FieldElement.EDWARDS_2D));
+    }
+
+    /**
+     * Point negation.
+     *
+     * @return -P
+     */
+    AffineNielsPoint negate() {
+        return new AffineNielsPoint(this.yMinusx, this.yPlusx, this.xy2D.negate());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Arrays;
+
+/**
+ * A byte array that can be used as a hash map key.
+ *
+ * The array is not copied, so the caller MUST NOT modify it afterwards.
+ */
+final class ByteArrayKey {
+    private final byte[] bytes;
+    private final int hash;
+
+    ByteArrayKey(byte[] bytes) {
+        this(bytes, Arrays.hashCode(bytes));
+    }
+
+    /**
+     * Wrap a byte array with a precomputed hash code, which must depend only
+     * on the contents of the array; see {@link KeyedHasher}.
+     */
+    ByteArrayKey(byte[] bytes, int hash) {
+        this.bytes = bytes;
+        this.hash = hash;
+    }
+
+    byte[] bytes() {
+        return this.bytes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ByteArrayKey)) {
+            return false;
+        }
+
+        ByteArrayKey other = (ByteArrayKey) obj;
+        return this.hash == other.hash && Arrays.equals(this.bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
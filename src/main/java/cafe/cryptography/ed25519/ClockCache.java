@@ -0,0 +1,231 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded concurrent cache with CLOCK (second-chance) eviction.
+ *
+ * Lookups are lock-free: a hit only sets the entry's reference bit. Insertions
+ * are serialized. They first reuse any slot freed by a removal, and only
+ * when every slot is occupied sweep a clock hand over the fixed array of
+ * slots, clearing reference bits until an unreferenced entry is found to evict.
+ */
+final class ClockCache<K, V> {
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int slot;
+        volatile boolean referenced;
+
+        Node(K key, V value, int slot) {
+            this.key = key;
+            this.value = value;
+            this.slot = slot;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+    private final Object[] slots;
+    private int hand;
+
+    // Stack of unoccupied slot indices; insertions pop from it before evicting.
+    private final int[] free;
+    private int freeCount;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Construct an empty cache.
+     *
+     * @param capacity the maximum number of entries.
+     */
+    ClockCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.map = new ConcurrentHashMap<K, Node<K, V>>(capacity);
+        this.slots = new Object[capacity];
+        this.hand = 0;
+        this.free = new int[capacity];
+        resetFree();
+    }
+
+    // Mark every slot as free, so that an empty cache fills slots in order.
+    private void resetFree() {
+        for (int i = 0; i < this.free.length; i++) {
+            this.free[i] = this.free.length - 1 - i;
+        }
+        this.freeCount = this.free.length;
+    }
+
+    /**
+     * Look up a key, recording a hit or a miss.
+     *
+     * @return the cached value, or null if the key is not cached.
+     */
+    V get(K key) {
+        Node<K, V> node = this.map.get(key);
+        if (node == null) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        this.hits.incrementAndGet();
+        return node.value;
+    }
+
+    /**
+     * Insert a value, evicting another entry if the cache is full. If the key
+     * is already cached, the existing value is kept.
+     *
+     * @return the value that is cached for the key after this call.
+     */
+    V put(K key, V value) {
+        Node<K, V> existing = this.map.get(key);
+        if (existing != null) {
+            return existing.value;
+        }
+
+        synchronized (this.slots) {
+            existing = this.map.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+
+            if (this.freeCount > 0) {
+                int slot = this.free[--this.freeCount];
+                Node<K, V> node = new Node<K, V>(key, value, slot);
+                this.slots[slot] = node;
+                this.map.put(key, node);
+                return value;
+            }
+
+            // Every slot is occupied, so sweep the clock hand until we find an
+            // unreferenced entry to evict. This terminates within two
+            // revolutions, because every referenced entry that the hand passes
+            // is given a second chance exactly once.
+            while (true) {
+                @SuppressWarnings("unchecked")
+                Node<K, V> current = (Node<K, V>) this.slots[this.hand];
+                if (current.referenced) {
+                    current.referenced = false;
+                    this.hand = (this.hand + 1) % this.slots.length;
+                } else {
+                    this.map.remove(current.key, current);
+                    this.evictions.incrementAndGet();
+                    break;
+                }
+            }
+
+            Node<K, V> node = new Node<K, V>(key, value, this.hand);
+            this.slots[this.hand] = node;
+            this.map.put(key, node);
+            this.hand = (this.hand + 1) % this.slots.length;
+            return value;
+        }
+    }
+
+    /**
+     * Returns the key that the next insertion would evict, without changing
+     * any reference bits, or null if there is a free slot.
+     */
+    K victim() {
+        synchronized (this.slots) {
+            if (this.freeCount > 0) {
+                return null;
+            }
+            // The sweep evicts the first unreferenced entry from the hand, or
+            // the entry under the hand once it has cleared every reference bit.
+            for (int i = 0; i < this.slots.length; i++) {
+                @SuppressWarnings("unchecked")
+                Node<K, V> current = (Node<K, V>) this.slots[(this.hand + i) % this.slots.length];
+                if (!current.referenced) {
+                    return current.key;
+                }
+            }
+            @SuppressWarnings("unchecked")
+            Node<K, V> current = (Node<K, V>) this.slots[this.hand];
+            return current.key;
+        }
+    }
+
+    /**
+     * Remove a key from the cache.
+     *
+     * @return the value that was cached for the key, or null.
+     */
+    V remove(K key) {
+        synchronized (this.slots) {
+            Node<K, V> node = this.map.remove(key);
+            if (node == null) {
+                return null;
+            }
+            this.slots[node.slot] = null;
+            this.free[this.freeCount++] = node.slot;
+            return node.value;
+        }
+    }
+
+    /**
+     * Remove a key from the cache only if it is mapped to the given value,
+     * compared by identity.
+     *
+     * @return true if the entry was removed.
+     */
+    boolean remove(K key, V value) {
+        synchronized (this.slots) {
+            Node<K, V> node = this.map.get(key);
+            if (node == null || node.value != value) {
+                return false;
+            }
+            this.map.remove(key, node);
+            this.slots[node.slot] = null;
+            this.free[this.freeCount++] = node.slot;
+            return true;
+        }
+    }
+
+    /**
+     * Remove all entries from the cache. The statistics are not reset.
+     */
+    void clear() {
+        synchronized (this.slots) {
+            this.map.clear();
+            for (int i = 0; i < this.slots.length; i++) {
+                this.slots[i] = null;
+            }
+            resetFree();
+        }
+    }
+
+    int size() {
+        return this.map.size();
+    }
+
+    int capacity() {
+        return this.slots.length;
+    }
+
+    long hitCount() {
+        return this.hits.get();
+    }
+
+    long missCount() {
+        return this.misses.get();
+    }
+
+    long evictionCount() {
+        return this.evictions.get();
+    }
+}
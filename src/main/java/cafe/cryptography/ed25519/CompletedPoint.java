@@ -0,0 +1,40 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+/**
+ * A point ((X:Z), (Y:T)) on the P^1 x P^1 model of the
+ * curve, which is the output of point addition and doubling.
+ */
+final class CompletedPoint {
+    final FieldElement X;
+    final FieldElement Y;
+    final FieldElement Z;
+    final FieldElement T;
+
+    CompletedPoint(FieldElement X, FieldElement Y, FieldElement Z, FieldElement T) {
+        this.X = X;
+        this.Y = Y;
+        this.Z = Z;
+        this.T = T;
+    }
+
+    /**
+     * Convert this point to the P^2 model. This costs 3 M.
+     */
+    ProjectivePoint toProjective() {
+        return new ProjectivePoint(this.X.multiply(this.T), this.Y.multiply(this.Z), this.Z.multiply(this.T));
+    }
+
+    /**
+     * Convert this point to the extended model. This costs 4 M.
+     */
+    ExtendedPoint toExtended() {
+        return new ExtendedPoint(this.X.multiply(this.T), this.Y.multiply(this.Z), this.Z.multiply(this.T),
+                this.X.multiply(this.Y));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies Ed25519 signatures, automatically preparing the public keys that
+ * are used most often.
+ *
+ * Each successful verification is counted in a small frequency sketch, whose
+ * counts decay over time. Once an unprepared key's recent count reaches the
+ * promotion threshold, it is prepared with {@link Ed25519PublicKey#prepare()}
+ * and later verifications with it use the precomputed tables. The number of
+ * prepared keys is limited by a memory budget; when it is reached, the CLOCK
+ * algorithm picks a prepared key that has not been used recently, and the
+ * new key is only promoted (demoting that one) if it has been used more often
+ * recently. This follows a changing set of hot keys without any per-key
+ * tuning, and does not thrash when there are more hot keys than fit.
+ *
+ * Verification results are identical to those of the corresponding
+ * {@link Ed25519PublicKey} methods. This class is thread-safe.
+ */
+public class Ed25519AdaptiveVerifier {
+    /**
+     * The default number of recent verifications after which a key is
+     * prepared.
+     */
+    public static final int DEFAULT_PROMOTION_THRESHOLD = 16;
+
+    private final Ed25519VerificationPolicy policy;
+    private final int threshold;
+    private final FrequencySketch sketch;
+    private final ClockCache<ByteArrayKey, Ed25519PreparedPublicKey> prepared;
+    private final AtomicLong promotions = new AtomicLong();
+
+    /**
+     * Construct a verifier that uses the default promotion threshold and the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * @param memoryBudget the approximate number of bytes of heap to use for
+     *                     prepared keys.
+     */
+    public Ed25519AdaptiveVerifier(long memoryBudget) {
+        this(memoryBudget, DEFAULT_PROMOTION_THRESHOLD, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Construct a verifier with the given promotion threshold and
+     * verification policy.
+     *
+     * @param memoryBudget the approximate number of bytes of heap to use for
+     *                     prepared keys; it must be enough for at least one.
+     * @param threshold the number of recent verifications after which a key
+     *                  is prepared.
+     * @param policy the verification policy.
+     */
+    public Ed25519AdaptiveVerifier(long memoryBudget, int threshold, @NotNull Ed25519VerificationPolicy policy) {
+        long keyBytes = VartimeFixedBaseTable.approximateBytes(Ed25519PreparedPublicKey.DEFAULT_WINDOW_WIDTH);
+        if (memoryBudget < keyBytes) {
+            throw new IllegalArgumentException("memory budget is too small for a prepared key");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+        int capacity = (int) Math.min(memoryBudget / keyBytes, 1 << 20);
+
+        this.policy = policy;
+        this.threshold = threshold;
+        // Size the sketch to distinguish well beyond the prepared keys, and
+        // halve its counts after ten verifications per counter.
+        int width = Math.max(256, 16 * capacity);
+        this.sketch = new FrequencySketch(width, 10 * width);
+        this.prepared = new ClockCache<ByteArrayKey, Ed25519PreparedPublicKey>(capacity);
+    }
+
+    /**
+     * Verify a signature over a message with the given public key.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature) {
+        return this.verify(publicKey, message, 0, message.length, signature);
+    }
+
+    /**
+     * Verify a signature over a message with the given public key.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message, int offset, int length,
+            @NotNull Ed25519Signature signature) {
+        // The encoding is never modified, so it can be used as a key directly.
+        byte[] encoding = publicKey.Aenc.toByteArray();
+        ByteArrayKey id = new ByteArrayKey(encoding);
+        Ed25519PreparedPublicKey preparedKey = this.prepared.get(id);
+        if (preparedKey != null) {
+            if (!preparedKey.verify(message, offset, length, signature, this.policy)) {
+                return false;
+            }
+            // Prepared keys keep being counted, so that they are not demoted
+            // in favour of keys that are used less often.
+            this.sketch.incrementAndEstimate(encoding);
+            return true;
+        }
+        if (!publicKey.verify(message, offset, length, signature, this.policy)) {
+            return false;
+        }
+
+        // Only successful verifications count towards promotion, so that
+        // invalid signatures cannot force keys to be prepared.
+        int estimate = this.sketch.incrementAndEstimate(encoding);
+        if (estimate >= this.threshold && this.admit(estimate)) {
+            Ed25519PreparedPublicKey promoted = publicKey.prepare();
+            if (this.prepared.put(id, promoted) == promoted) {
+                this.promotions.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decide whether a key with the given estimate may replace the prepared
+     * key that would be demoted for it (TinyLFU admission).
+     */
+    private boolean admit(int estimate) {
+        ByteArrayKey victim = this.prepared.victim();
+        return victim == null || estimate > this.sketch.estimate(victim.bytes());
+    }
+
+    /**
+     * Returns the verification policy used by this verifier.
+     */
+    @NotNull
+    public Ed25519VerificationPolicy policy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns the maximum number of keys that are prepared at once.
+     */
+    public int capacity() {
+        return this.prepared.capacity();
+    }
+
+    /**
+     * Returns the number of keys that are currently prepared.
+     */
+    public int preparedCount() {
+        return this.prepared.size();
+    }
+
+    /**
+     * Returns the number of verifications that used a prepared key.
+     */
+    public long hitCount() {
+        return this.prepared.hitCount();
+    }
+
+    /**
+     * Returns the number of times a key has been prepared.
+     */
+    public long promotionCount() {
+        return this.promotions.get();
+    }
+
+    /**
+     * Returns the number of prepared keys that were demoted to make room for
+     * others.
+     */
+    public long demotionCount() {
+        return this.prepared.evictionCount();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+/**
+ * The precomputed basepoint table used for signing and key expansion.
+ *
+ * All tables perform constant-time scalar multiplication and produce identical
+ * keys and signatures; they differ only in memory use and speed. Each radix
+ * 2^w table holds ceil(256/w) * 2^(w-1) precomputed points and needs one point
+ * addition per digit, but every lookup scans 2^(w-1) entries to stay constant
+ * time. Wider tables therefore trade fewer additions for more expensive
+ * lookups, and the fastest choice depends on the platform; the JMH benchmarks
+ * in this repository compare them.
+ *
+ * Tables are built the first time they are used, and then shared by all keys.
+ * {@link #RADIX_16} is instead loaded from a precomputed resource, and signing
+ * with it does not build any of the curve25519-elisabeth tables, so it is the
+ * best choice for short-lived processes that only create a few signatures.
+ */
+public enum Ed25519BasepointTable {
+    /**
+     * The basepoint table from curve25519-elisabeth.
+     */
+    DEFAULT(0),
+
+    /**
+     * A radix-16 table of 512 points (about 60 KiB), loaded from a
+     * precomputed resource.
+     */
+    RADIX_16(4),
+
+    /**
+     * A radix-32 table of 832 points (about 100 KiB).
+     */
+    RADIX_32(5),
+
+    /**
+     * A radix-64 table of 1376 points (about 160 KiB).
+     */
+    RADIX_64(6);
+
+    private final int width;
+    private volatile FixedBaseTable table;
+
+    Ed25519BasepointTable(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Returns the table, building it if necessary, or null for
+     * {@link #DEFAULT}.
+     */
+    FixedBaseTable table() {
+        if (this.width == 0) {
+            return null;
+        }
+        if (this.width == FixedBaseTable.BASEPOINT_WIDTH) {
+            return FixedBaseTable.basepoint();
+        }
+
+        FixedBaseTable table = this.table;
+        if (table == null) {
+            synchronized (this) {
+                table = this.table;
+                if (table == null) {
+                    table = new FixedBaseTable(FixedBaseTable.BASEPOINT, this.width);
+                    this.table = table;
+                }
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import cafe.cryptography.curve25519.CompressedEdwardsY;
+import cafe.cryptography.curve25519.Constants;
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies many Ed25519 signatures at once.
+ *
+ * Signatures are checked with a single random linear combination of their
+ * verification equations, which is considerably cheaper than verifying each
+ * signature individually. A batch verifies successfully only if every
+ * signature in it is valid (except with negligible probability).
+ *
+ * Batch verification checks the cofactored group equation [8][S]B = [8]R +
+ * [8][k]A, and accepts non-canonical encodings of R. The results are therefore
+ * the same as verifying each signature with the
+ * {@link Ed25519VerificationPolicy#ZIP215} policy. They agree with the default
+ * {@link Ed25519VerificationPolicy#STRICT} policy for all signatures produced
+ * by honest signers, but a batch may accept specially crafted signatures that
+ * strict verification rejects.
+ *
+ * This class is not thread-safe, but {@link #verify(ForkJoinPool)} can use
+ * multiple threads to check a single batch.
+ */
+public class Ed25519BatchVerifier {
+    /**
+     * The number of points in the multiscalar multiplication above which we
+     * switch from Straus' method to Pippenger's method.
+     */
+    static final int PIPPENGER_THRESHOLD = 190;
+
+    /**
+     * The minimum number of signatures checked by each task during parallel
+     * verification.
+     */
+    static final int MIN_PARALLEL_CHUNK = 64;
+
+    private final SecureRandom random;
+    private final List<Entry> entries;
+
+    /**
+     * A queued signature, with its challenge already computed.
+     */
+    private static class Entry {
+        final EdwardsPoint A;
+        final CompressedEdwardsY R;
+        final Scalar S;
+        final Scalar k;
+
+        Entry(EdwardsPoint A, CompressedEdwardsY R, Scalar S, Scalar k) {
+            this.A = A;
+            this.R = R;
+            this.S = S;
+            this.k = k;
+        }
+    }
+
+    /**
+     * Construct an empty batch that uses a new SecureRandom to generate the
+     * coefficients of the linear combination.
+     */
+    public Ed25519BatchVerifier() {
+        this(new SecureRandom());
+    }
+
+    /**
+     * Construct an empty batch that uses the given SecureRandom to generate the
+     * coefficients of the linear combination.
+     */
+    public Ed25519BatchVerifier(@NotNull SecureRandom random) {
+        this.random = random;
+        this.entries = new ArrayList<Entry>();
+    }
+
+    /**
+     * Add a signature over a message to the batch.
+     */
+    public void queue(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature) {
+        this.queue(publicKey, message, 0, message.length, signature);
+    }
+
+    /**
+     * Add a signature over a message to the batch.
+     *
+     * The message is hashed immediately, so the caller may reuse the message
+     * buffer once this method returns.
+     */
+    public void queue(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message, int offset, int length,
+            @NotNull Ed25519Signature signature) {
+        Scalar k = publicKey.computeChallenge(signature.R, message, offset, length);
+        this.entries.add(new Entry(publicKey.point(), signature.R, signature.S, k));
+    }
+
+    /**
+     * Returns the number of signatures in the batch.
+     *
+     * @return the batch size.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Verify every signature in the batch.
+     *
+     * An empty batch verifies successfully.
+     *
+     * @return true if all signatures are valid, false otherwise.
+     */
+    public boolean verify() {
+        int n = this.entries.size();
+        EdwardsPoint[] R = new EdwardsPoint[n];
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            try {
+                R[i] = this.entries.get(i).R.decompress();
+            } catch (InvalidEncodingException e) {
+                return false;
+            }
+            indices[i] = i;
+        }
+
+        Scalar[] z = this.randomCoefficients(n);
+        return this.check(indices, 0, n, R, z);
+    }
+
+    /**
+     * Verify every signature in the batch, using the given pool to check
+     * chunks of the batch in parallel.
+     *
+     * Each chunk is checked with its own multiscalar multiplication, so the
+     * result is the same as for {@link #verify()}. On Java 8 and above,
+     * {@code ForkJoinPool.commonPool()} is a reasonable choice of pool.
+     *
+     * @param pool the pool to run the verification tasks in.
+     * @return true if all signatures are valid, false otherwise.
+     */
+    public boolean verify(@NotNull ForkJoinPool pool) {
+        int n = this.entries.size();
+        if (n == 0) {
+            return true;
+        }
+
+        // Aim for a few chunks per thread to balance the load, but keep them
+        // large enough to amortize the cost of each multiscalar multiplication.
+        int chunks = 4 * pool.getParallelism();
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK, (n + chunks - 1) / chunks);
+
+        // Each task decompresses and reads only its own range of R values.
+        EdwardsPoint[] R = new EdwardsPoint[n];
+        Scalar[] z = this.randomCoefficients(n);
+        return pool.invoke(new CheckTask(0, n, chunkSize, R, z));
+    }
+
+    /**
+     * Checks the batch equation for a range of signatures, splitting it into
+     * chunks that are checked in parallel.
+     */
+    private class CheckTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final EdwardsPoint[] R;
+        private final Scalar[] z;
+
+        CheckTask(int from, int to, int chunkSize, EdwardsPoint[] R, Scalar[] z) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.R = R;
+            this.z = z;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (this.to - this.from > this.chunkSize) {
+                int mid = (this.from + this.to) >>> 1;
+                CheckTask left = new CheckTask(this.from, mid, this.chunkSize, this.R, this.z);
+                left.fork();
+                boolean rightValid = new CheckTask(mid, this.to, this.chunkSize, this.R, this.z).compute();
+                return left.join() && rightValid;
+            }
+
+            int[] indices = new int[this.to - this.from];
+            for (int i = this.from; i < this.to; i++) {
+                try {
+                    this.R[i] = Ed25519BatchVerifier.this.entries.get(i).R.decompress();
+                } catch (InvalidEncodingException e) {
+                    return false;
+                }
+                indices[i - this.from] = i;
+            }
+            return Ed25519BatchVerifier.this.check(indices, 0, indices.length, this.R, this.z);
+        }
+    }
+
+    /**
+     * Verify every signature in the batch, and find the invalid ones.
+     *
+     * If the batch does not verify, it is split in half and each half is
+     * checked recursively. A batch of n signatures containing a single
+     * invalid signature requires around 2 * log2(n) sub-batch checks, rather
+     * than n individual verifications.
+     *
+     * @return a bitmap in which bit i is set if the i-th queued signature is
+     *         valid.
+     */
+    @NotNull
+    public BitSet verifyEach() {
+        int n = this.entries.size();
+        BitSet valid = new BitSet(n);
+
+        // Signatures with undecodable R values are invalid, and are excluded
+        // from the search.
+        EdwardsPoint[] R = new EdwardsPoint[n];
+        int[] indices = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            try {
+                R[i] = this.entries.get(i).R.decompress();
+                indices[count++] = i;
+            } catch (InvalidEncodingException e) {
+                // Leave the bit unset.
+            }
+        }
+
+        Scalar[] z = this.randomCoefficients(n);
+        this.bisect(indices, 0, count, false, R, z, valid);
+        return valid;
+    }
+
+    /**
+     * Recursively locate the valid signatures in indices[from..to).
+     *
+     * @param knownInvalid true if the range is already known to contain an
+     *                     invalid signature.
+     * @return true if every signature in the range is valid.
+     */
+    private boolean bisect(int[] indices, int from, int to, boolean knownInvalid, EdwardsPoint[] R, Scalar[] z,
+            BitSet valid) {
+        if (from == to) {
+            return true;
+        }
+
+        if (!knownInvalid && this.check(indices, from, to, R, z)) {
+            for (int i = from; i < to; i++) {
+                valid.set(indices[i]);
+            }
+            return true;
+        }
+
+        if (to - from == 1) {
+            return false;
+        }
+
+        // If the left half is entirely valid, the invalid signature must be in
+        // the right half, so we can skip checking it as a whole.
+        int mid = (from + to) >>> 1;
+        boolean leftValid = this.bisect(indices, from, mid, false, R, z, valid);
+        this.bisect(indices, mid, to, leftValid, R, z, valid);
+        return false;
+    }
+
+    /**
+     * Check the batch equation for the signatures in indices[from..to).
+     */
+    private boolean check(int[] indices, int from, int to, EdwardsPoint[] R, Scalar[] z) {
+        // @formatter:off
+        // For random 128-bit z_i, check that
+        //
+        //     [8](-[sum(z_i * S_i)]B + sum([z_i]R_i) + sum([z_i * k_i]A_i)) = 0
+        // @formatter:on
+        int n = to - from;
+        Scalar[] scalars = new Scalar[2 * n + 1];
+        EdwardsPoint[] points = new EdwardsPoint[2 * n + 1];
+        Scalar Bcoeff = Scalar.ZERO;
+        for (int j = 0; j < n; j++) {
+            int i = indices[from + j];
+            Entry entry = this.entries.get(i);
+            scalars[j] = z[i];
+            points[j] = R[i];
+            scalars[n + j] = z[i].multiply(entry.k);
+            points[n + j] = entry.A;
+            Bcoeff = Bcoeff.subtract(z[i].multiply(entry.S));
+        }
+        scalars[2 * n] = Bcoeff;
+        points[2 * n] = Constants.ED25519_BASEPOINT;
+
+        EdwardsPoint check;
+        if (points.length < PIPPENGER_THRESHOLD) {
+            check = Straus.vartimeMultiscalarMul(scalars, points);
+        } else {
+            check = Pippenger.vartimeMultiscalarMul(scalars, points);
+        }
+        return check.multiplyByCofactor().isIdentity();
+    }
+
+    /**
+     * Sample n uniformly-random 128-bit scalars.
+     */
+    private Scalar[] randomCoefficients(int n) {
+        Scalar[] z = new Scalar[n];
+        byte[] bits = new byte[16];
+        for (int i = 0; i < n; i++) {
+            byte[] zi = new byte[32];
+            this.random.nextBytes(bits);
+            System.arraycopy(bits, 0, zi, 0, bits.length);
+            z[i] = Scalar.fromBits(zi);
+        }
+        return z;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates many Ed25519 key pairs at once.
+ *
+ * The keys are generated in chunks. Each chunk draws a single 32-byte seed
+ * from the caller's SecureRandom, and expands it into the chunk's private keys
+ * with its own SHA-512 based generator, so the SecureRandom is not contended.
+ * The public keys of a chunk are encoded with a single shared field inversion.
+ * Chunks can be generated in parallel; the keys depend only on the output of
+ * the SecureRandom, not on how the chunks were scheduled.
+ *
+ * The private keys are ordinary 32-byte Ed25519 private keys, and the public
+ * keys are identical to those returned by
+ * {@link Ed25519PrivateKey#derivePublic()}.
+ */
+public final class Ed25519BulkKeyGenerator {
+    /**
+     * The number of keys generated from each seed, and encoded with each
+     * shared inversion.
+     */
+    static final int CHUNK_SIZE = 256;
+
+    /**
+     * The maximum number of key pairs in a single call, so that the 32-byte
+     * keys fit in a single array.
+     */
+    public static final int MAX_COUNT = Integer.MAX_VALUE / 32;
+
+    private Ed25519BulkKeyGenerator() {
+    }
+
+    /**
+     * Generate key pairs on the calling thread.
+     *
+     * @param random the source of randomness for the keys.
+     * @param count the number of key pairs to generate, at most
+     *              {@link #MAX_COUNT}.
+     * @return the key pairs.
+     */
+    @NotNull
+    public static Keys generate(@NotNull SecureRandom random, int count) {
+        byte[][] chunkSeeds = chunkSeeds(random, count);
+        Keys keys = new Keys(count);
+        for (int chunk = 0; chunk < chunkSeeds.length; chunk++) {
+            generateChunk(keys, chunk, chunkSeeds[chunk]);
+        }
+        return keys;
+    }
+
+    /**
+     * Generate key pairs, using the given pool to generate chunks of keys in
+     * parallel.
+     *
+     * For the same output from the SecureRandom, the keys are identical to
+     * those returned by {@link #generate(SecureRandom, int)}.
+     *
+     * @param random the source of randomness for the keys.
+     * @param count the number of key pairs to generate, at most
+     *              {@link #MAX_COUNT}.
+     * @param pool the pool to run the generation tasks in.
+     * @return the key pairs.
+     */
+    @NotNull
+    public static Keys generate(@NotNull SecureRandom random, int count, @NotNull ForkJoinPool pool) {
+        byte[][] chunkSeeds = chunkSeeds(random, count);
+        Keys keys = new Keys(count);
+        pool.invoke(new ChunkTask(keys, chunkSeeds, 0, chunkSeeds.length));
+        return keys;
+    }
+
+    private static byte[][] chunkSeeds(SecureRandom random, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        if (count > MAX_COUNT) {
+            throw new IllegalArgumentException("count must be at most " + MAX_COUNT);
+        }
+        byte[][] chunkSeeds = new byte[(count + CHUNK_SIZE - 1) / CHUNK_SIZE][32];
+        for (byte[] seed : chunkSeeds) {
+            random.nextBytes(seed);
+        }
+        return chunkSeeds;
+    }
+
+    private static void generateChunk(Keys keys, int chunk, byte[] chunkSeed) {
+        int from = chunk * CHUNK_SIZE;
+        int to = Math.min(from + CHUNK_SIZE, keys.count);
+
+        SeedGenerator generator = new SeedGenerator(chunkSeed);
+        MessageDigest h;
+        try {
+            h = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        ExtendedPoint[] A = new ExtendedPoint[to - from];
+        for (int i = from; i < to; i++) {
+            generator.nextBytes(keys.seeds, 32 * i, 32);
+            h.update(keys.seeds, 32 * i, 32);
+            Scalar s = Ed25519PrivateKey.secretScalar(h.digest());
+            A[i - from] = FixedBaseTable.basepoint().multiply(s);
+        }
+        Arrays.fill(chunkSeed, (byte) 0);
+
+        byte[][] encodings = ExtendedPoint.compressBatch(A);
+        for (int i = from; i < to; i++) {
+            System.arraycopy(encodings[i - from], 0, keys.publicKeys, 32 * i, 32);
+        }
+    }
+
+    /**
+     * Generates a range of chunks, splitting it into tasks that run in
+     * parallel.
+     */
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Keys keys;
+        private final byte[][] chunkSeeds;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Keys keys, byte[][] chunkSeeds, int from, int to) {
+            this.keys = keys;
+            this.chunkSeeds = chunkSeeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new ChunkTask(this.keys, this.chunkSeeds, this.from, mid),
+                        new ChunkTask(this.keys, this.chunkSeeds, mid, this.to));
+            } else if (this.to > this.from) {
+                generateChunk(this.keys, this.from, this.chunkSeeds[this.from]);
+            }
+        }
+    }
+
+    /**
+     * A set of generated key pairs, stored as contiguous arrays of 32-byte
+     * private keys and 32-byte public key encodings.
+     */
+    public static class Keys {
+        private final int count;
+        private final byte[] seeds;
+        private final byte[] publicKeys;
+
+        Keys(int count) {
+            this.count = count;
+            this.seeds = new byte[32 * count];
+            this.publicKeys = new byte[32 * count];
+        }
+
+        /**
+         * Returns the number of key pairs.
+         */
+        public int size() {
+            return this.count;
+        }
+
+        /**
+         * Returns the i-th private key.
+         */
+        @NotNull
+        public Ed25519PrivateKey privateKey(int i) {
+            return Ed25519PrivateKey.fromByteArray(Arrays.copyOfRange(this.seeds, 32 * i, 32 * i + 32));
+        }
+
+        /**
+         * Returns the i-th public key.
+         */
+        @NotNull
+        public Ed25519PublicKey publicKey(int i) {
+            return Ed25519PublicKey.fromValidEncoding(Arrays.copyOfRange(this.publicKeys, 32 * i, 32 * i + 32));
+        }
+
+        /**
+         * Returns the private keys, concatenated; the i-th key is at offset
+         * 32 * i.
+         */
+        @NotNull
+        public byte[] privateKeys() {
+            return Arrays.copyOf(this.seeds, this.seeds.length);
+        }
+
+        /**
+         * Returns the public key encodings, concatenated; the i-th key is at
+         * offset 32 * i.
+         */
+        @NotNull
+        public byte[] publicKeys() {
+            return Arrays.copyOf(this.publicKeys, this.publicKeys.length);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.MessageDigest;
+
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies Ed25519 signatures, remembering recent successful verifications.
+ *
+ * This is useful when the same signed message is received many times, for
+ * example from different peers in a gossip network. A repeated (public key,
+ * message, signature) triple that has already been verified is accepted
+ * without any curve operations.
+ *
+ * Each triple is identified by the SHA-512 digest that verification computes
+ * anyway, SHA512(R || A || M), together with S. The cache therefore adds no
+ * hashing cost, and a hit requires a collision in SHA-512. Only successful
+ * verifications are cached, so invalid signatures cannot be used to evict
+ * valid ones. The cache has a fixed capacity, and evicts entries using the
+ * CLOCK algorithm (an approximation of least-recently-used).
+ *
+ * This class is thread-safe.
+ */
+public class Ed25519CachingVerifier {
+    private final Ed25519VerificationPolicy policy;
+    private final ClockCache<ByteArrayKey, Boolean> cache;
+
+    /**
+     * Construct a verifier that uses the {@link Ed25519VerificationPolicy#STRICT}
+     * policy.
+     *
+     * @param capacity the maximum number of verifications to remember.
+     */
+    public Ed25519CachingVerifier(int capacity) {
+        this(capacity, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Construct a verifier that uses the given verification policy.
+     *
+     * @param capacity the maximum number of verifications to remember.
+     * @param policy the verification policy.
+     */
+    public Ed25519CachingVerifier(int capacity, @NotNull Ed25519VerificationPolicy policy) {
+        this.policy = policy;
+        this.cache = new ClockCache<ByteArrayKey, Boolean>(capacity);
+    }
+
+    /**
+     * Verify a signature over a message with the given public key.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature) {
+        return this.verify(publicKey, message, 0, message.length, signature);
+    }
+
+    /**
+     * Verify a signature over a message with the given public key.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message, int offset, int length,
+            @NotNull Ed25519Signature signature) {
+        MessageDigest h = publicKey.challengeDigest(signature.R);
+        h.update(message, offset, length);
+        byte[] digest = h.digest();
+
+        byte[] keyBytes = new byte[96];
+        System.arraycopy(digest, 0, keyBytes, 0, 64);
+        System.arraycopy(signature.S.toByteArray(), 0, keyBytes, 64, 32);
+        ByteArrayKey key = new ByteArrayKey(keyBytes);
+        if (this.cache.get(key) != null) {
+            return true;
+        }
+
+        Scalar k = Scalar.fromBytesModOrderWide(digest);
+        if (!publicKey.verifyChallenge(k, signature, this.policy)) {
+            return false;
+        }
+        this.cache.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Returns the verification policy used by this verifier.
+     */
+    @NotNull
+    public Ed25519VerificationPolicy policy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns the maximum number of verifications that are remembered.
+     */
+    public int capacity() {
+        return this.cache.capacity();
+    }
+
+    /**
+     * Returns the number of verifications that are currently remembered.
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the number of verifications that were answered from the cache.
+     */
+    public long hitCount() {
+        return this.cache.hitCount();
+    }
+
+    /**
+     * Returns the number of verifications that were not found in the cache,
+     * including those of invalid signatures.
+     */
+    public long missCount() {
+        return this.cache.missCount();
+    }
+
+    /**
+     * Forget all remembered verifications. The hit and miss counts are not
+     * reset.
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+}
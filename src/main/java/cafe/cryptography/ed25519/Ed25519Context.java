@@ -0,0 +1,147 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A context string for the Ed25519ctx and Ed25519ph variants of RFC 8032.
+ *
+ * Contexts separate the signatures of different protocols or domains: a
+ * signature created with one context does not verify with any other context,
+ * or with plain Ed25519.
+ *
+ * The dom2 prefix for the context is hashed once, when the context is
+ * created, and every signing or verification operation starts from a copy of
+ * that hash state. Contexts are immutable and thread-safe, so applications
+ * should create each context once and reuse it.
+ */
+public final class Ed25519Context {
+    // @formatter:off
+    // RFC 8032, section 5.1:
+    //   dom2(x, y)     The blank octet string when signing or verifying
+    //                  Ed25519.  Otherwise, the octet string: "SigEd25519 no
+    //                  Ed25519 collisions" || octet(x) || octet(OLEN(y)) ||
+    //                  y, where x is in range 0-255 and y is an octet string
+    //                  of at most 255 octets.  "SigEd25519 no Ed25519
+    //                  collisions" is in ASCII (32 octets).
+    // @formatter:on
+    private static final byte[] DOM2_PREFIX = new byte[] { 'S', 'i', 'g', 'E', 'd', '2', '5', '5', '1', '9', ' ', 'n',
+            'o', ' ', 'E', 'd', '2', '5', '5', '1', '9', ' ', 'c', 'o', 'l', 'l', 'i', 's', 'i', 'o', 'n', 's' };
+
+    /**
+     * The empty context. This selects plain Ed25519 (with an empty dom2), or
+     * Ed25519ph without a context.
+     */
+    static final Ed25519Context NONE = new Ed25519Context(new byte[0]);
+
+    private final byte[] context;
+
+    /**
+     * SHA-512 states with dom2(0, C) and dom2(1, C) absorbed, or for the empty
+     * context, an empty state and dom2(1, "") respectively.
+     */
+    private final MessageDigest pureState;
+    private final MessageDigest prehashState;
+
+    private Ed25519Context(byte[] context) {
+        this.context = context;
+        // @formatter:off
+        // RFC 8032, section 5.1:
+        //   For Ed25519ctx, phflag=0.  The context input SHOULD NOT be empty.
+        //   For Ed25519ph, phflag=1 and PH is SHA512 instead.
+        // @formatter:on
+        this.pureState = newDigest();
+        if (context.length > 0) {
+            this.pureState.update(dom2(0, context));
+        }
+        this.prehashState = newDigest();
+        this.prehashState.update(dom2(1, context));
+    }
+
+    /**
+     * Construct a context from an array of bytes.
+     *
+     * @param context the context string, between 1 and 255 bytes long.
+     * @return a context.
+     */
+    @NotNull
+    public static Ed25519Context fromByteArray(@NotNull byte[] context) {
+        if (context.length < 1 || context.length > 255) {
+            throw new IllegalArgumentException("context must be between 1 and 255 bytes");
+        }
+        return new Ed25519Context(context.clone());
+    }
+
+    /**
+     * Returns the context string.
+     *
+     * @return a copy of the context string.
+     */
+    @NotNull
+    public byte[] toByteArray() {
+        return this.context.clone();
+    }
+
+    private static byte[] dom2(int phflag, byte[] context) {
+        byte[] dom2 = new byte[DOM2_PREFIX.length + 2 + context.length];
+        System.arraycopy(DOM2_PREFIX, 0, dom2, 0, DOM2_PREFIX.length);
+        dom2[DOM2_PREFIX.length] = (byte) phflag;
+        dom2[DOM2_PREFIX.length + 1] = (byte) context.length;
+        System.arraycopy(context, 0, dom2, DOM2_PREFIX.length + 2, context.length);
+        return dom2;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns a new SHA-512 instance that has already absorbed dom2 for this
+     * context.
+     *
+     * @param prehash true for Ed25519ph, false for Ed25519 or Ed25519ctx.
+     */
+    MessageDigest digest(boolean prehash) {
+        MessageDigest state = prehash ? this.prehashState : this.pureState;
+        try {
+            return (MessageDigest) state.clone();
+        } catch (CloneNotSupportedException e) {
+            // The provider can't copy its state, so hash dom2 again.
+            MessageDigest h = newDigest();
+            if (prehash) {
+                h.update(dom2(1, this.context));
+            } else if (this.context.length > 0) {
+                h.update(dom2(0, this.context));
+            }
+            return h;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Ed25519Context)) {
+            return false;
+        }
+
+        Ed25519Context other = (Ed25519Context) obj;
+        return Arrays.equals(this.context, other.context);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.context);
+    }
+}
@@ -6,8 +6,11 @@
 
 package cafe.cryptography.ed25519;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 
 import cafe.cryptography.curve25519.CompressedEdwardsY;
 import cafe.cryptography.curve25519.Constants;
@@ -55,11 +58,57 @@ public class Ed25519ExpandedPrivateKey {
      */
     private final Ed25519PublicKey publicKey;
 
-    Ed25519ExpandedPrivateKey(Scalar s, byte[] prefix) {
+    /**
+     * The basepoint table used for signing, or null to use the
+     * curve25519-elisabeth table.
+     */
+    private final FixedBaseTable table;
+
+    Ed25519ExpandedPrivateKey(Scalar s, byte[] prefix, Ed25519BasepointTable table) {
         this.s = s;
         this.prefix = prefix;
-        EdwardsPoint A = Constants.ED25519_BASEPOINT_TABLE.multiply(this.s);
-        this.publicKey = new Ed25519PublicKey(A);
+        this.table = table.table();
+        if (this.table == null) {
+            EdwardsPoint A = Constants.ED25519_BASEPOINT_TABLE.multiply(this.s);
+            this.publicKey = new Ed25519PublicKey(A);
+        } else {
+            // Defer decompressing A until the public key is used to verify.
+            this.publicKey = Ed25519PublicKey.fromValidEncoding(this.table.multiply(this.s).compress());
+        }
+    }
+
+    /**
+     * Compute the encoding of [r]B with this key's basepoint table.
+     */
+    private CompressedEdwardsY multiplyBasepoint(Scalar r) {
+        if (this.table == null) {
+            return Constants.ED25519_BASEPOINT_TABLE.multiply(r).compress();
+        }
+        return new CompressedEdwardsY(this.table.multiply(r).compress());
+    }
+
+    /**
+     * Reduce a 64-byte digest modulo the group order. Signing with the default
+     * table already initializes the curve25519-elisabeth constants, so it uses
+     * the library's scalar arithmetic; the other tables use ScalarOps, so that
+     * signing with them does not.
+     */
+    static Scalar reduce(FixedBaseTable table, byte[] digest) {
+        if (table == null) {
+            return Scalar.fromBytesModOrderWide(digest);
+        }
+        return ScalarOps.fromBytesModOrderWide(digest);
+    }
+
+    /**
+     * Compute S = (r + k * s) mod L, with the same arithmetic as
+     * {@link #reduce(FixedBaseTable, byte[])}.
+     */
+    static Scalar multiplyAndAdd(FixedBaseTable table, Scalar k, Scalar s, Scalar r) {
+        if (table == null) {
+            return k.multiplyAndAdd(s, r);
+        }
+        return ScalarOps.multiplyAndAdd(k, s, r);
     }
 
     /**
@@ -72,6 +121,16 @@ public class Ed25519ExpandedPrivateKey {
         return this.publicKey;
     }
 
+    /**
+     * Create a reusable signing context for this expanded private key.
+     *
+     * @return a signer, which must only be used by one thread at a time.
+     */
+    @NotNull
+    public Ed25519Signer signer() {
+        return new Ed25519Signer(this.s, this.prefix, this.publicKey, this.table);
+    }
+
     /**
      * Sign a message with this expanded private key.
      *
@@ -93,45 +152,263 @@ public class Ed25519ExpandedPrivateKey {
         // RFC 8032, section 5.1:
         //   PH(x)   | x (i.e., the identity function)
         //   For Ed25519, dom2(f,c) is the empty string.
+        // @formatter:on
+        return this.sign(Ed25519Context.NONE, false, message, offset, length);
+    }
+
+    /**
+     * Sign a message with this expanded private key, using the Ed25519ctx
+     * variant with the given context.
+     *
+     * @return the signature.
+     */
+    @NotNull
+    public Ed25519Signature sign(@NotNull byte[] message, @NotNull Ed25519Context context) {
+        return this.sign(message, 0, message.length, context);
+    }
 
+    /**
+     * Sign a message with this expanded private key, using the Ed25519ctx
+     * variant with the given context.
+     *
+     * @return the signature.
+     */
+    @NotNull
+    public Ed25519Signature sign(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Context context) {
+        return this.sign(context, false, message, offset, length);
+    }
+
+    /**
+     * Sign a message with this expanded private key, using the Ed25519ph
+     * variant. The prehash is finished if it has not been already.
+     *
+     * @return the signature.
+     */
+    @NotNull
+    public Ed25519Signature signPrehashed(@NotNull Ed25519Prehash prehash) {
+        return this.signPrehashed(prehash, Ed25519Context.NONE);
+    }
+
+    /**
+     * Sign a message with this expanded private key, using the Ed25519ph
+     * variant with the given context. The prehash is finished if it has not
+     * been already.
+     *
+     * @return the signature.
+     */
+    @NotNull
+    public Ed25519Signature signPrehashed(@NotNull Ed25519Prehash prehash, @NotNull Ed25519Context context) {
+        byte[] ph = prehash.finish();
+        return this.sign(context, true, ph, 0, ph.length);
+    }
+
+    /**
+     * Sign PH(M) with this expanded private key, using the dom2 prefix for the
+     * given context and variant.
+     */
+    private Ed25519Signature sign(Ed25519Context context, boolean prehash, byte[] message, int offset, int length) {
+        // @formatter:off
         // RFC 8032, section 5.1.6:
         // 2.  Compute SHA-512(dom2(F, C) || prefix || PH(M)), where M is the
         //     message to be signed.  Interpret the 64-octet digest as a little-
         //     endian integer r.
         // @formatter:on
-        MessageDigest h;
-        try {
-            h = MessageDigest.getInstance("SHA-512");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
+        MessageDigest h = context.digest(prehash);
         h.update(this.prefix);
         h.update(message, offset, length);
-        Scalar r = Scalar.fromBytesModOrderWide(h.digest());
+        Scalar r = reduce(this.table, h.digest());
 
         // @formatter:off
         // 3.  Compute the point [r]B.  For efficiency, do this by first
         //     reducing r modulo L, the group order of B.  Let the string R be
         //     the encoding of this point.
         // @formatter:on
-        CompressedEdwardsY R = Constants.ED25519_BASEPOINT_TABLE.multiply(r).compress();
+        CompressedEdwardsY R = this.multiplyBasepoint(r);
 
         // @formatter:off
         // 4.  Compute SHA512(dom2(F, C) || R || A || PH(M)), and interpret the
         //     64-octet digest as a little-endian integer k.
         // @formatter:on
-        h.reset();
+        h = context.digest(prehash);
         h.update(R.toByteArray());
-        h.update(this.publicKey.toByteArray());
+        h.update(this.publicKey.Aenc.toByteArray());
         h.update(message, offset, length);
-        Scalar k = Scalar.fromBytesModOrderWide(h.digest());
+        Scalar k = reduce(this.table, h.digest());
 
         // @formatter:off
         // 5.  Compute S = (r + k * s) mod L.  For efficiency, again reduce k
         //     modulo L first.
         // @formatter:on
-        Scalar S = r.add(k.multiply(this.s));
+        Scalar S = multiplyAndAdd(this.table, k, this.s, r);
+
+        return new Ed25519Signature(R, S);
+    }
 
+    /**
+     * Sign a message that is read from a replayable source, using constant
+     * memory.
+     *
+     * The source is written out twice, and the signature is identical to the
+     * one {@link #sign(byte[])} would produce for the same message. If the
+     * source does not write the same bytes both times, this method fails
+     * without producing a signature: a signature over one message using the
+     * nonce derived from another would reveal the private key.
+     *
+     * @return the signature.
+     * @throws IOException if the source fails, or does not replay the same
+     *                     message.
+     */
+    @NotNull
+    public Ed25519Signature sign(@NotNull Ed25519MessageSource message) throws IOException {
+        MessageDigest h;
+        MessageDigest first;
+        MessageDigest second;
+        try {
+            h = MessageDigest.getInstance("SHA-512");
+            first = MessageDigest.getInstance("SHA-512");
+            second = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        // r = SHA-512(prefix || M)
+        h.update(this.prefix);
+        message.writeTo(new DigestSink(h, first));
+        Scalar r = reduce(this.table, h.digest());
+        CompressedEdwardsY R = this.multiplyBasepoint(r);
+
+        // k = SHA512(R || A || M)
+        h.update(R.toByteArray());
+        h.update(this.publicKey.Aenc.toByteArray());
+        message.writeTo(new DigestSink(h, second));
+        Scalar k = reduce(this.table, h.digest());
+
+        if (!MessageDigest.isEqual(first.digest(), second.digest())) {
+            throw new IOException("message source did not replay the same message");
+        }
+
+        Scalar S = multiplyAndAdd(this.table, k, this.s, r);
         return new Ed25519Signature(R, S);
     }
+
+    /**
+     * Feeds a pass over a streamed message into the signing digest, and into
+     * a digest of the message alone that is used to check that both passes
+     * saw the same message.
+     */
+    private static class DigestSink extends OutputStream {
+        private final MessageDigest h;
+        private final MessageDigest check;
+
+        DigestSink(MessageDigest h, MessageDigest check) {
+            this.h = h;
+            this.check = check;
+        }
+
+        @Override
+        public void write(int b) {
+            this.h.update((byte) b);
+            this.check.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.h.update(b, off, len);
+            this.check.update(b, off, len);
+        }
+    }
+
+    /**
+     * Sign many messages with this expanded private key.
+     *
+     * The signatures are identical to those produced by
+     * {@link #sign(byte[])}, but are cheaper to compute, because the field
+     * inversions needed to encode their R values are shared.
+     *
+     * @return the signatures, in the same order as the messages.
+     */
+    @NotNull
+    public Ed25519Signature[] signBatch(@NotNull byte[][] messages) {
+        Ed25519ExpandedPrivateKey[] keys = new Ed25519ExpandedPrivateKey[messages.length];
+        Arrays.fill(keys, this);
+        return signBatch(keys, messages);
+    }
+
+    /**
+     * Sign many messages, each with its own expanded private key.
+     *
+     * The signatures are identical to those produced by calling
+     * {@link #sign(byte[])} on each key, but are cheaper to compute, because
+     * the field inversions needed to encode their R values are shared.
+     *
+     * @param keys the key to sign each message with.
+     * @param messages the messages to sign.
+     * @return the signatures, in the same order as the messages.
+     */
+    @NotNull
+    public static Ed25519Signature[] signBatch(@NotNull Ed25519ExpandedPrivateKey[] keys,
+            @NotNull byte[][] messages) {
+        if (keys.length != messages.length) {
+            throw new IllegalArgumentException("keys and messages must have the same length");
+        }
+
+        MessageDigest h;
+        try {
+            h = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        // Compute r = SHA-512(prefix || M) and [r]B for every message, leaving
+        // the points in extended coordinates.
+        int n = messages.length;
+        Scalar[] r = new Scalar[n];
+        ExtendedPoint[] rB = new ExtendedPoint[n];
+        for (int i = 0; i < n; i++) {
+            h.update(keys[i].prefix);
+            h.update(messages[i]);
+            r[i] = reduce(keys[i].table, h.digest());
+            rB[i] = FixedBaseTable.basepoint().multiply(r[i]);
+        }
+
+        // Encode every R with a single field inversion.
+        byte[][] R = ExtendedPoint.compressBatch(rB);
+
+        // Compute k = SHA512(R || A || M) and S = (r + k * s) mod L.
+        Ed25519Signature[] signatures = new Ed25519Signature[n];
+        for (int i = 0; i < n; i++) {
+            h.update(R[i]);
+            h.update(keys[i].publicKey.Aenc.toByteArray());
+            h.update(messages[i]);
+            Scalar k = reduce(keys[i].table, h.digest());
+            Scalar S = multiplyAndAdd(keys[i].table, k, keys[i].s, r[i]);
+            signatures[i] = new Ed25519Signature(new CompressedEdwardsY(R[i]), S);
+        }
+        return signatures;
+    }
+
+    /**
+     * Sign a window of records with a single signature.
+     *
+     * The records are hashed into a binary SHA-256 tree, and only its root is
+     * signed, using Ed25519ctx. Each record gets a proof containing the root
+     * signature and the hashes needed to recompute the root from the record,
+     * which is logarithmic in the window size. The proofs are verified with an
+     * {@link Ed25519MerkleVerifier}, not as ordinary signatures.
+     *
+     * @param records the records; there must be at least one.
+     * @return the inclusion proofs, in the same order as the records.
+     */
+    @NotNull
+    public Ed25519MerkleProof[] signMerkle(@NotNull byte[][] records) {
+        MerkleTree tree = new MerkleTree(records);
+        byte[] message = MerkleTree.rootMessage(tree.size(), tree.root());
+        Ed25519Signature signature = this.sign(message, MerkleTree.CONTEXT);
+
+        Ed25519MerkleProof[] proofs = new Ed25519MerkleProof[records.length];
+        for (int i = 0; i < records.length; i++) {
+            proofs[i] = new Ed25519MerkleProof(signature, i, records.length, tree.path(i));
+        }
+        return proofs;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import cafe.cryptography.curve25519.CompressedEdwardsY;
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies many Ed25519 signatures independently, with an exact result for
+ * each signature.
+ *
+ * Unlike {@link Ed25519BatchVerifier}, no random linear combination is used,
+ * so the result for each signature is identical to that of
+ * {@link Ed25519PublicKey#verify(byte[], Ed25519Signature,
+ * Ed25519VerificationPolicy)} with the same policy. This is suitable for
+ * auditing, where every invalid signature must be reported. The signatures
+ * are still checked together: each [S]B - [k]A is computed in projective
+ * coordinates, and under the strict policy they are all encoded with a single
+ * shared field inversion.
+ *
+ * This class is not thread-safe.
+ */
+public class Ed25519IndependentVerifier {
+    private final Ed25519VerificationPolicy policy;
+    private final List<Entry> entries;
+
+    /**
+     * A queued signature, with its challenge already computed.
+     */
+    private static class Entry {
+        final ExtendedPoint A;
+        final CompressedEdwardsY R;
+        final Scalar S;
+        final Scalar k;
+
+        Entry(ExtendedPoint A, CompressedEdwardsY R, Scalar S, Scalar k) {
+            this.A = A;
+            this.R = R;
+            this.S = S;
+            this.k = k;
+        }
+    }
+
+    /**
+     * Construct an empty verifier that uses the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
+     */
+    public Ed25519IndependentVerifier() {
+        this(Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Construct an empty verifier that uses the given verification policy.
+     */
+    public Ed25519IndependentVerifier(@NotNull Ed25519VerificationPolicy policy) {
+        this.policy = policy;
+        this.entries = new ArrayList<Entry>();
+    }
+
+    /**
+     * Add a signature over a message to the verifier.
+     */
+    public void queue(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature) {
+        this.queue(publicKey, message, 0, message.length, signature);
+    }
+
+    /**
+     * Add a signature over a message to the verifier.
+     *
+     * The message is hashed immediately, so the caller may reuse the message
+     * buffer once this method returns.
+     */
+    public void queue(@NotNull Ed25519PublicKey publicKey, @NotNull byte[] message, int offset, int length,
+            @NotNull Ed25519Signature signature) {
+        Scalar k = publicKey.computeChallenge(signature.R, message, offset, length);
+        this.entries.add(new Entry(publicKey.extendedPoint(), signature.R, signature.S, k));
+    }
+
+    /**
+     * Returns the verification policy used by this verifier.
+     */
+    @NotNull
+    public Ed25519VerificationPolicy policy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns the number of queued signatures.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Verify each queued signature.
+     *
+     * @return a bitmap in which bit i is set if the i-th queued signature is
+     *         valid.
+     */
+    @NotNull
+    public BitSet verify() {
+        int n = this.entries.size();
+        ExtendedPoint[] SBminuskA = new ExtendedPoint[n];
+        CompressedEdwardsY[] R = new CompressedEdwardsY[n];
+        for (int i = 0; i < n; i++) {
+            Entry entry = this.entries.get(i);
+            SBminuskA[i] = Straus.vartimeDoubleScalarMultiplyBasepoint(entry.k, entry.A.negate(), entry.S);
+            R[i] = entry.R;
+        }
+        return this.policy.checkR(SBminuskA, R);
+    }
+}
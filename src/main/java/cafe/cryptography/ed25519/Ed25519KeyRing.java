@@ -0,0 +1,208 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A set of private keys identified by key IDs, which caches their expanded
+ * forms so that signing with a hot key does not repeat key expansion.
+ *
+ * Every key that is added stays in the ring until it is removed, but only a
+ * bounded number of expanded keys are cached. When the cache is full, cold
+ * keys are evicted using the CLOCK algorithm (an approximation of
+ * least-recently-used), and are expanded again the next time they are used.
+ *
+ * Lookups of cached keys are lock-free. This class is thread-safe.
+ *
+ * @param <K> the type of key IDs, which must implement equals and hashCode.
+ */
+public class Ed25519KeyRing<K> {
+    /**
+     * A cached expansion, together with the private key it was expanded from,
+     * so that an expansion of a replaced key is never returned.
+     */
+    private static class Expansion {
+        final Ed25519PrivateKey privateKey;
+        final Ed25519ExpandedPrivateKey expandedKey;
+
+        Expansion(Ed25519PrivateKey privateKey, Ed25519ExpandedPrivateKey expandedKey) {
+            this.privateKey = privateKey;
+            this.expandedKey = expandedKey;
+        }
+    }
+
+    private final Ed25519BasepointTable table;
+    private final ConcurrentHashMap<K, Ed25519PrivateKey> keys;
+    private final ClockCache<K, Expansion> expanded;
+
+    /**
+     * Construct an empty key ring that expands keys with the default
+     * basepoint table.
+     *
+     * @param capacity the maximum number of expanded keys to cache.
+     */
+    public Ed25519KeyRing(int capacity) {
+        this(capacity, Ed25519BasepointTable.DEFAULT);
+    }
+
+    /**
+     * Construct an empty key ring that expands keys with the given basepoint
+     * table.
+     *
+     * @param capacity the maximum number of expanded keys to cache.
+     * @param table the basepoint table for the expanded keys.
+     */
+    public Ed25519KeyRing(int capacity, @NotNull Ed25519BasepointTable table) {
+        this.table = table;
+        this.keys = new ConcurrentHashMap<K, Ed25519PrivateKey>();
+        this.expanded = new ClockCache<K, Expansion>(capacity);
+    }
+
+    /**
+     * Add a private key to the ring, replacing any key with the same ID. The
+     * key is expanded when it is first used.
+     */
+    public void put(@NotNull K id, @NotNull Ed25519PrivateKey privateKey) {
+        Ed25519PrivateKey previous = this.keys.put(id, privateKey);
+        if (previous != null) {
+            this.expanded.remove(id);
+        }
+    }
+
+    /**
+     * Remove a private key from the ring.
+     *
+     * @return true if the ring contained a key with the given ID.
+     */
+    public boolean remove(@NotNull K id) {
+        Ed25519PrivateKey previous = this.keys.remove(id);
+        this.expanded.remove(id);
+        return previous != null;
+    }
+
+    /**
+     * Returns true if the ring contains a key with the given ID.
+     */
+    public boolean contains(@NotNull K id) {
+        return this.keys.containsKey(id);
+    }
+
+    /**
+     * Returns the expanded form of a key, expanding it if it is not cached.
+     *
+     * @return the expanded key, or null if the ring has no key with the given
+     *         ID.
+     */
+    public Ed25519ExpandedPrivateKey get(@NotNull K id) {
+        Ed25519PrivateKey privateKey = this.keys.get(id);
+        if (privateKey == null) {
+            return null;
+        }
+
+        Expansion cached = this.expanded.get(id);
+        if (cached != null) {
+            if (cached.privateKey == privateKey) {
+                return cached.expandedKey;
+            }
+            // The key was replaced while it was being expanded. Only remove
+            // this stale entry, not a fresh one that another thread inserted.
+            this.expanded.remove(id, cached);
+        }
+
+        Expansion expansion = new Expansion(privateKey, this.expand(privateKey));
+        cached = this.expanded.put(id, expansion);
+
+        // If the key was removed or replaced while it was being expanded, the
+        // removal may have run before the insertion, so take our own entry
+        // back out rather than leave an expansion of a deleted key cached.
+        if (this.keys.get(id) != privateKey) {
+            this.expanded.remove(id, expansion);
+        }
+        return cached.privateKey == privateKey ? cached.expandedKey : expansion.expandedKey;
+    }
+
+    /**
+     * Expand a private key with this ring's basepoint table.
+     */
+    Ed25519ExpandedPrivateKey expand(Ed25519PrivateKey privateKey) {
+        return privateKey.expand(this.table);
+    }
+
+    /**
+     * Returns the public key for a key ID.
+     *
+     * @return the public key, or null if the ring has no key with the given
+     *         ID.
+     */
+    public Ed25519PublicKey publicKey(@NotNull K id) {
+        Ed25519ExpandedPrivateKey expandedKey = this.get(id);
+        return expandedKey == null ? null : expandedKey.derivePublic();
+    }
+
+    /**
+     * Sign a message with the key that has the given ID.
+     *
+     * @return the signature.
+     * @throws IllegalArgumentException if the ring has no key with the given
+     *                                  ID.
+     */
+    @NotNull
+    public Ed25519Signature sign(@NotNull K id, @NotNull byte[] message) {
+        Ed25519ExpandedPrivateKey expandedKey = this.get(id);
+        if (expandedKey == null) {
+            throw new IllegalArgumentException("unknown key ID");
+        }
+        return expandedKey.sign(message);
+    }
+
+    /**
+     * Returns the number of keys in the ring.
+     */
+    public int size() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the maximum number of expanded keys that are cached.
+     */
+    public int capacity() {
+        return this.expanded.capacity();
+    }
+
+    /**
+     * Returns the number of expanded keys that are currently cached.
+     */
+    public int expandedCount() {
+        return this.expanded.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an expanded key in the cache.
+     */
+    public long hitCount() {
+        return this.expanded.hitCount();
+    }
+
+    /**
+     * Returns the number of lookups of keys in the ring that had to expand
+     * the key.
+     */
+    public long missCount() {
+        return this.expanded.missCount();
+    }
+
+    /**
+     * Returns the number of expanded keys that were evicted to make room for
+     * others.
+     */
+    public long evictionCount() {
+        return this.expanded.evictionCount();
+    }
+}
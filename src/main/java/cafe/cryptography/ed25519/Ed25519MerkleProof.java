@@ -0,0 +1,118 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A proof that a record was included in a window of records signed with
+ * {@link Ed25519ExpandedPrivateKey#signMerkle(byte[][])}.
+ *
+ * The proof holds the Ed25519 signature over the root of the window's hash
+ * tree, the position of the record in the window, and the sibling hashes on
+ * the path from the record to the root. It is verified with an
+ * {@link Ed25519MerkleVerifier}.
+ */
+public class Ed25519MerkleProof {
+    final Ed25519Signature signature;
+    final int index;
+    final int size;
+    final byte[][] path;
+
+    Ed25519MerkleProof(Ed25519Signature signature, int index, int size, byte[][] path) {
+        this.signature = signature;
+        this.index = index;
+        this.size = size;
+        this.path = path;
+    }
+
+    /**
+     * Construct an Ed25519MerkleProof from an array of bytes.
+     *
+     * @return a proof.
+     * @throws IllegalArgumentException if the input is not a valid encoding.
+     */
+    @NotNull
+    public static Ed25519MerkleProof fromByteArray(@NotNull byte[] input) {
+        if (input.length < 72) {
+            throw new IllegalArgumentException("Invalid Merkle proof");
+        }
+
+        Ed25519Signature signature = Ed25519Signature.fromByteArray(Arrays.copyOfRange(input, 0, 64));
+        int index = readInt(input, 64);
+        int size = readInt(input, 68);
+        if (size < 1 || index < 0 || index >= size) {
+            throw new IllegalArgumentException("Invalid Merkle proof");
+        }
+
+        int pathLength = MerkleTree.pathLength(index, size);
+        if (input.length != 72 + pathLength * MerkleTree.HASH_LENGTH) {
+            throw new IllegalArgumentException("Invalid Merkle proof");
+        }
+        byte[][] path = new byte[pathLength][];
+        for (int i = 0; i < pathLength; i++) {
+            int offset = 72 + i * MerkleTree.HASH_LENGTH;
+            path[i] = Arrays.copyOfRange(input, offset, offset + MerkleTree.HASH_LENGTH);
+        }
+
+        return new Ed25519MerkleProof(signature, index, size, path);
+    }
+
+    /**
+     * Encode this proof as the root signature, the record's index and the
+     * window size as 4-byte big-endian integers, and the path hashes.
+     *
+     * @return the encoded proof.
+     */
+    @NotNull
+    public byte[] toByteArray() {
+        byte[] out = new byte[72 + this.path.length * MerkleTree.HASH_LENGTH];
+        System.arraycopy(this.signature.toByteArray(), 0, out, 0, 64);
+        writeInt(out, 64, this.index);
+        writeInt(out, 68, this.size);
+        for (int i = 0; i < this.path.length; i++) {
+            System.arraycopy(this.path[i], 0, out, 72 + i * MerkleTree.HASH_LENGTH, MerkleTree.HASH_LENGTH);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the signature over the root of the window.
+     */
+    @NotNull
+    public Ed25519Signature signature() {
+        return this.signature;
+    }
+
+    /**
+     * Returns the position of the record in its window.
+     */
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * Returns the number of records in the window.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private static int readInt(byte[] in, int offset) {
+        return ((in[offset] & 0xff) << 24) | ((in[offset + 1] & 0xff) << 16) | ((in[offset + 2] & 0xff) << 8)
+                | (in[offset + 3] & 0xff);
+    }
+
+    private static void writeInt(byte[] out, int offset, int value) {
+        out[offset] = (byte) (value >>> 24);
+        out[offset + 1] = (byte) (value >>> 16);
+        out[offset + 2] = (byte) (value >>> 8);
+        out[offset + 3] = (byte) value;
+    }
+}
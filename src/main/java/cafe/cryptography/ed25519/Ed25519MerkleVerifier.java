@@ -0,0 +1,130 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies records signed with
+ * {@link Ed25519ExpandedPrivateKey#signMerkle(byte[][])}, remembering the
+ * window roots whose signatures have been verified.
+ *
+ * Verifying a record hashes it up to the root of its window using the
+ * inclusion proof. The root signature is then checked once per window: later
+ * records from the same window only need hashing. Only successfully verified
+ * roots are remembered, in a bounded cache that evicts entries using the CLOCK
+ * algorithm.
+ *
+ * This class is thread-safe.
+ */
+public class Ed25519MerkleVerifier {
+    private final Ed25519PublicKey publicKey;
+    private final Ed25519VerificationPolicy policy;
+    private final ClockCache<ByteArrayKey, Boolean> roots;
+
+    /**
+     * Construct a verifier for records signed by the given public key, using
+     * the {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * @param capacity the maximum number of verified roots to remember.
+     */
+    public Ed25519MerkleVerifier(@NotNull Ed25519PublicKey publicKey, int capacity) {
+        this(publicKey, capacity, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Construct a verifier for records signed by the given public key, using
+     * the given verification policy.
+     *
+     * @param capacity the maximum number of verified roots to remember.
+     * @param policy the verification policy.
+     */
+    public Ed25519MerkleVerifier(@NotNull Ed25519PublicKey publicKey, int capacity,
+            @NotNull Ed25519VerificationPolicy policy) {
+        this.publicKey = publicKey;
+        this.policy = policy;
+        this.roots = new ClockCache<ByteArrayKey, Boolean>(capacity);
+    }
+
+    /**
+     * Verify that a record was signed as part of a window.
+     *
+     * @return true if the proof is valid for the record, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] record, @NotNull Ed25519MerkleProof proof) {
+        return this.verify(record, 0, record.length, proof);
+    }
+
+    /**
+     * Verify that a record was signed as part of a window.
+     *
+     * @return true if the proof is valid for the record, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] record, int offset, int length, @NotNull Ed25519MerkleProof proof) {
+        byte[] root = MerkleTree.rootFromPath(record, offset, length, proof.index, proof.size, proof.path);
+        byte[] message = MerkleTree.rootMessage(proof.size, root);
+
+        // The cache key covers everything the signature check depends on.
+        byte[] keyBytes = new byte[message.length + 64];
+        System.arraycopy(message, 0, keyBytes, 0, message.length);
+        System.arraycopy(proof.signature.toByteArray(), 0, keyBytes, message.length, 64);
+        ByteArrayKey key = new ByteArrayKey(keyBytes);
+        if (this.roots.get(key) != null) {
+            return true;
+        }
+
+        if (!this.publicKey.verify(message, 0, message.length, proof.signature, MerkleTree.CONTEXT, this.policy)) {
+            return false;
+        }
+        this.roots.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Returns the public key that records are verified against.
+     */
+    @NotNull
+    public Ed25519PublicKey publicKey() {
+        return this.publicKey;
+    }
+
+    /**
+     * Returns the maximum number of verified roots that are remembered.
+     */
+    public int capacity() {
+        return this.roots.capacity();
+    }
+
+    /**
+     * Returns the number of verified roots that are currently remembered.
+     */
+    public int size() {
+        return this.roots.size();
+    }
+
+    /**
+     * Returns the number of verifications that were answered from the cache.
+     */
+    public long hitCount() {
+        return this.roots.hitCount();
+    }
+
+    /**
+     * Returns the number of verifications that needed a signature check,
+     * including those of invalid proofs.
+     */
+    public long missCount() {
+        return this.roots.missCount();
+    }
+
+    /**
+     * Forget all remembered roots. The hit and miss counts are not reset.
+     */
+    public void clear() {
+        this.roots.clear();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A message that can be written out more than once, for streaming signing.
+ *
+ * Ed25519 signing reads the message twice: once to derive the nonce, and once
+ * to compute the challenge. Signing from a source keeps memory usage constant
+ * regardless of the message size. Implementations MUST write exactly the same
+ * bytes every time; {@link Ed25519ExpandedPrivateKey#sign(Ed25519MessageSource)}
+ * checks this, and fails rather than produce a signature if they differ.
+ */
+public abstract class Ed25519MessageSource {
+    /**
+     * Write the entire message to the given stream. The stream should not be
+     * closed.
+     *
+     * @throws IOException if the message cannot be read or written.
+     */
+    public abstract void writeTo(@NotNull OutputStream out) throws IOException;
+
+    /**
+     * Returns a source for the remaining bytes of a buffer, such as a
+     * memory-mapped region of a file. The buffer's position is not changed.
+     */
+    @NotNull
+    public static Ed25519MessageSource fromByteBuffer(@NotNull final ByteBuffer message) {
+        return new Ed25519MessageSource() {
+            @Override
+            public void writeTo(@NotNull OutputStream out) throws IOException {
+                ByteBuffer src = message.duplicate();
+                if (src.hasArray()) {
+                    out.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+                    return;
+                }
+
+                byte[] buf = new byte[Math.min(Ed25519Verifier.BUFFER_SIZE, src.remaining())];
+                while (src.hasRemaining()) {
+                    int n = Math.min(buf.length, src.remaining());
+                    src.get(buf, 0, n);
+                    out.write(buf, 0, n);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a source for the contents of a channel, from its current
+     * position to the current end of the file. The channel's position is not
+     * changed, and the channel is not closed.
+     *
+     * @throws IOException if the channel's position or size cannot be read.
+     */
+    @NotNull
+    public static Ed25519MessageSource fromFileChannel(@NotNull FileChannel channel) throws IOException {
+        long position = channel.position();
+        return fromFileChannel(channel, position, channel.size() - position);
+    }
+
+    /**
+     * Returns a source for a region of a channel. The channel's position is
+     * not changed, and the channel is not closed.
+     *
+     * @param channel the channel to read from.
+     * @param position the offset in the file at which the message starts.
+     * @param length the length of the message.
+     */
+    @NotNull
+    public static Ed25519MessageSource fromFileChannel(@NotNull final FileChannel channel, final long position,
+            final long length) {
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("position and length must be non-negative");
+        }
+
+        return new Ed25519MessageSource() {
+            @Override
+            public void writeTo(@NotNull OutputStream out) throws IOException {
+                ByteBuffer buf = ByteBuffer.allocate((int) Math.min(Ed25519Verifier.BUFFER_SIZE, length));
+                long offset = 0;
+                while (offset < length) {
+                    buf.clear();
+                    buf.limit((int) Math.min(buf.capacity(), length - offset));
+                    int read = channel.read(buf, position + offset);
+                    if (read == -1) {
+                        throw new IOException("unexpected end of file");
+                    }
+                    out.write(buf.array(), 0, read);
+                    offset += read;
+                }
+            }
+        };
+    }
+}
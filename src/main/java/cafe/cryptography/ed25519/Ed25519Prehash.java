@@ -0,0 +1,164 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The SHA-512 prehash of a message, for the Ed25519ph variant of RFC 8032.
+ *
+ * Ed25519ph signs and verifies the 64-byte SHA-512 digest of the message
+ * instead of the message itself, so a message of any size can be signed or
+ * verified in a single streaming pass. Ed25519ph signatures are not
+ * interchangeable with Ed25519 signatures over the same message.
+ *
+ * Once the prehash has been used to sign or verify, or {@link #digest()} has
+ * been called, it is finished and cannot be updated further; it can still be
+ * used to sign or verify any number of times.
+ */
+public class Ed25519Prehash {
+    private final MessageDigest h;
+    private byte[] digest;
+
+    /**
+     * Start prehashing a message that will be provided incrementally.
+     */
+    public Ed25519Prehash() {
+        try {
+            this.h = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        this.digest = null;
+    }
+
+    private Ed25519Prehash(byte[] digest) {
+        this.h = null;
+        this.digest = digest;
+    }
+
+    /**
+     * Construct a finished prehash from a SHA-512 digest that was computed
+     * elsewhere.
+     *
+     * @param digest the 64-byte SHA-512 digest of the message.
+     * @return a finished prehash.
+     */
+    @NotNull
+    public static Ed25519Prehash fromDigest(@NotNull byte[] digest) {
+        if (digest.length != 64) {
+            throw new IllegalArgumentException("digest length is wrong");
+        }
+        return new Ed25519Prehash(digest.clone());
+    }
+
+    private void checkNotFinished() {
+        if (this.digest != null) {
+            throw new IllegalStateException("prehash has already been finished");
+        }
+    }
+
+    /**
+     * Append part of the message.
+     *
+     * @return this prehash.
+     */
+    @NotNull
+    public Ed25519Prehash update(@NotNull byte[] input) {
+        return this.update(input, 0, input.length);
+    }
+
+    /**
+     * Append part of the message.
+     *
+     * @return this prehash.
+     */
+    @NotNull
+    public Ed25519Prehash update(@NotNull byte[] input, int offset, int length) {
+        this.checkNotFinished();
+        this.h.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Append the remaining bytes of a buffer to the message. On return, the
+     * buffer's position will be equal to its limit.
+     *
+     * @return this prehash.
+     */
+    @NotNull
+    public Ed25519Prehash update(@NotNull ByteBuffer input) {
+        this.checkNotFinished();
+        this.h.update(input);
+        return this;
+    }
+
+    /**
+     * Append the contents of a stream to the message, reading until the end of
+     * the stream. The stream is not closed.
+     *
+     * @return this prehash.
+     * @throws IOException if the stream cannot be read.
+     */
+    @NotNull
+    public Ed25519Prehash update(@NotNull InputStream input) throws IOException {
+        this.checkNotFinished();
+        byte[] buf = new byte[Ed25519Verifier.BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buf)) != -1) {
+            this.h.update(buf, 0, read);
+        }
+        return this;
+    }
+
+    /**
+     * Append the contents of a channel to the message, reading from its current
+     * position until the end of the file. The channel is not closed.
+     *
+     * @return this prehash.
+     * @throws IOException if the channel cannot be read.
+     */
+    @NotNull
+    public Ed25519Prehash update(@NotNull FileChannel input) throws IOException {
+        this.checkNotFinished();
+        ByteBuffer buf = ByteBuffer.allocate(Ed25519Verifier.BUFFER_SIZE);
+        while (input.read(buf) != -1) {
+            buf.flip();
+            this.h.update(buf);
+            buf.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Finish the prehash, and return the SHA-512 digest of the message.
+     *
+     * @return the 64-byte digest.
+     */
+    @NotNull
+    public byte[] digest() {
+        return this.finish().clone();
+    }
+
+    /**
+     * Finish the prehash if necessary, and return the digest without copying
+     * it.
+     */
+    byte[] finish() {
+        if (this.digest == null) {
+            this.digest = this.h.digest();
+        }
+        return this.digest;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An Ed25519 public key with precomputed tables for fast verification.
+ *
+ * Preparing a key precomputes multiples of -A, so that each verification
+ * only needs point additions and no doublings. This is worthwhile for keys
+ * that verify many signatures; the table for a window width of w contains
+ * 2^(w-1) * ceil(256/w) points (512 points, around 150 kB, for the default
+ * width of 4).
+ *
+ * Verification results are identical to those of the corresponding
+ * {@link Ed25519PublicKey} methods.
+ */
+public class Ed25519PreparedPublicKey {
+    /**
+     * The default window width for the precomputed table.
+     */
+    public static final int DEFAULT_WINDOW_WIDTH = 4;
+
+    private final Ed25519PublicKey publicKey;
+    private final VartimeFixedBaseTable Aneg;
+
+    Ed25519PreparedPublicKey(Ed25519PublicKey publicKey, int windowWidth) {
+        this.publicKey = publicKey;
+        this.Aneg = new VartimeFixedBaseTable(publicKey.point().negate(), windowWidth);
+    }
+
+    /**
+     * Returns the public key that this key was prepared from.
+     *
+     * @return the public key.
+     */
+    @NotNull
+    public Ed25519PublicKey publicKey() {
+        return this.publicKey;
+    }
+
+    /**
+     * Returns the window width of the precomputed table.
+     *
+     * @return the window width.
+     */
+    public int windowWidth() {
+        return this.Aneg.width;
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, @NotNull Ed25519Signature signature) {
+        return this.verify(message, 0, message.length, signature);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Signature signature) {
+        return this.verify(message, offset, length, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the given
+     * verification policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        return this.verify(message, 0, message.length, signature, policy);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the given
+     * verification policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        Scalar k = this.publicKey.computeChallenge(signature.R, message, offset, length);
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    /**
+     * Verify a signature over the remaining bytes of a buffer with this public
+     * key, using the {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * The message is read directly from the buffer, which may be a heap or
+     * direct buffer. The buffer's position is not changed.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull ByteBuffer message, @NotNull Ed25519Signature signature) {
+        return this.verify(message, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify a signature over the remaining bytes of a buffer with this public
+     * key, using the given verification policy.
+     *
+     * The message is read directly from the buffer, which may be a heap or
+     * direct buffer. The buffer's position is not changed.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull ByteBuffer message, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        Scalar k = this.publicKey.computeChallenge(signature.R, message);
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    private boolean verifyChallenge(Scalar k, Ed25519Signature signature, Ed25519VerificationPolicy policy) {
+        // Compute [S]B - [k]A from the precomputed tables.
+        EdwardsPoint SBminuskA = VartimeFixedBaseTable.basepoint().multiply(signature.S).add(this.Aneg.multiply(k));
+        return policy.checkR(SBminuskA, signature.R);
+    }
+}
@@ -67,6 +67,18 @@ public class Ed25519PrivateKey {
      */
     @NotNull
     public Ed25519ExpandedPrivateKey expand() {
+        return this.expand(Ed25519BasepointTable.DEFAULT);
+    }
+
+    /**
+     * Convert this private key into its expanded form, which can be used for
+     * creating signatures, using the given basepoint table for key expansion
+     * and signing.
+     *
+     * @return the expanded private key.
+     */
+    @NotNull
+    public Ed25519ExpandedPrivateKey expand(@NotNull Ed25519BasepointTable table) {
         // @formatter:off
         // RFC 8032, section 5.1.6:
         // 1.  Hash the private key, 32 octets, using SHA-512.  Let h denote the
@@ -79,6 +91,7 @@ public class Ed25519PrivateKey {
         // 1.  Hash the 32-byte private key using SHA-512, storing the digest in
         //     a 64-octet large buffer, denoted h.  Only the lower 32 bytes are
         //     used for generating the public key.
+        // @formatter:on
         MessageDigest hasher;
         try {
             hasher = MessageDigest.getInstance("SHA-512");
@@ -88,9 +101,20 @@ public class Ed25519PrivateKey {
         hasher.update(this.secret);
         byte[] h = hasher.digest();
 
-        byte[] lower = Arrays.copyOfRange(h, 0, 32);
+        Scalar s = secretScalar(h);
         byte[] upper = Arrays.copyOfRange(h, 32, 64);
 
+        return new Ed25519ExpandedPrivateKey(s, upper, table);
+    }
+
+    /**
+     * Derive the secret scalar from the SHA-512 digest of a private key.
+     */
+    static Scalar secretScalar(byte[] h) {
+        byte[] lower = Arrays.copyOfRange(h, 0, 32);
+
+        // @formatter:off
+        // RFC 8032, section 5.1.5:
         // 2.  Prune the buffer: The lowest three bits of the first octet are
         //     cleared, the highest bit of the last octet is cleared, and the
         //     second highest bit of the last octet is set.
@@ -101,9 +125,7 @@ public class Ed25519PrivateKey {
         // 3.  Interpret the buffer as the little-endian integer, forming a
         //     secret scalar s.
         // @formatter:on
-        Scalar s = Scalar.fromBits(lower);
-
-        return new Ed25519ExpandedPrivateKey(s, upper);
+        return Scalar.fromBits(lower);
     }
 
     /**
@@ -6,8 +6,10 @@
 
 package cafe.cryptography.ed25519;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 
 import cafe.cryptography.curve25519.CompressedEdwardsY;
 import cafe.cryptography.curve25519.EdwardsPoint;
@@ -19,8 +21,17 @@ import org.jetbrains.annotations.NotNull;
  * An Ed25519 public key.
  */
 public class Ed25519PublicKey {
-    private final EdwardsPoint A;
-    private final CompressedEdwardsY Aenc;
+    /**
+     * The decompressed point, or null if it has not been needed yet.
+     */
+    private volatile EdwardsPoint A;
+
+    /**
+     * The decompressed point in this module's own representation, or null if
+     * it has not been needed yet.
+     */
+    private volatile ExtendedPoint Aext;
+    final CompressedEdwardsY Aenc;
 
     Ed25519PublicKey(EdwardsPoint A) {
         this.A = A;
@@ -32,6 +43,51 @@ public class Ed25519PublicKey {
         this.A = Aenc.decompress();
     }
 
+    private Ed25519PublicKey(CompressedEdwardsY Aenc, EdwardsPoint A) {
+        this.Aenc = Aenc;
+        this.A = A;
+    }
+
+    /**
+     * Construct a public key from the encoding of a point that this module
+     * computed itself. The point is only decompressed when it is first needed.
+     */
+    static Ed25519PublicKey fromValidEncoding(byte[] encoding) {
+        return new Ed25519PublicKey(new CompressedEdwardsY(encoding), null);
+    }
+
+    /**
+     * Returns the public key as a point, decompressing it if necessary.
+     */
+    EdwardsPoint point() {
+        EdwardsPoint A = this.A;
+        if (A == null) {
+            try {
+                A = this.Aenc.decompress();
+            } catch (InvalidEncodingException e) {
+                throw new IllegalStateException("public key encoding is invalid", e);
+            }
+            this.A = A;
+        }
+        return A;
+    }
+
+    /**
+     * Returns the public key as an {@link ExtendedPoint}, decompressing it if
+     * necessary.
+     */
+    ExtendedPoint extendedPoint() {
+        ExtendedPoint A = this.Aext;
+        if (A == null) {
+            A = ExtendedPoint.decompress(this.Aenc.toByteArray());
+            if (A == null) {
+                throw new IllegalStateException("public key encoding is invalid");
+            }
+            this.Aext = A;
+        }
+        return A;
+    }
+
     /**
      * Construct an Ed25519PublicKey from an array of bytes.
      *
@@ -40,8 +96,38 @@ public class Ed25519PublicKey {
      */
     @NotNull
     public static Ed25519PublicKey fromByteArray(@NotNull byte[] input) throws InvalidEncodingException {
-        CompressedEdwardsY Aenc = new CompressedEdwardsY(input);
-        return new Ed25519PublicKey(Aenc);
+        return decode(Arrays.copyOf(input, input.length));
+    }
+
+    /**
+     * Construct an Ed25519PublicKey from the next 32 bytes of a buffer.
+     *
+     * The bytes are read starting at the buffer's current position, which is
+     * then advanced by 32. If the key cannot be parsed, the position is not
+     * changed. Both heap and direct buffers are supported.
+     *
+     * @return a public key.
+     * @throws InvalidEncodingException if the input is not a valid encoding.
+     */
+    @NotNull
+    public static Ed25519PublicKey fromByteBuffer(@NotNull ByteBuffer input) throws InvalidEncodingException {
+        if (input.remaining() < 32) {
+            throw new IllegalArgumentException("public key length is wrong");
+        }
+
+        byte[] encoded = new byte[32];
+        input.duplicate().get(encoded);
+        Ed25519PublicKey publicKey = decode(encoded);
+        input.position(input.position() + 32);
+        return publicKey;
+    }
+
+    /**
+     * Decompress a public key from an encoding that will not be modified
+     * afterwards, without copying it.
+     */
+    static Ed25519PublicKey decode(byte[] encoding) throws InvalidEncodingException {
+        return new Ed25519PublicKey(new CompressedEdwardsY(encoding));
     }
 
     /**
@@ -51,11 +137,39 @@ public class Ed25519PublicKey {
      */
     @NotNull
     public byte[] toByteArray() {
-        return this.Aenc.toByteArray();
+        // CompressedEdwardsY returns its internal array, which may be shared.
+        byte[] encoded = this.Aenc.toByteArray();
+        return Arrays.copyOf(encoded, encoded.length);
     }
 
     /**
-     * Verify a signature over a message with this public key.
+     * Precompute tables for verifying many signatures with this public key,
+     * using the default window width.
+     *
+     * @return the prepared public key.
+     */
+    @NotNull
+    public Ed25519PreparedPublicKey prepare() {
+        return this.prepare(Ed25519PreparedPublicKey.DEFAULT_WINDOW_WIDTH);
+    }
+
+    /**
+     * Precompute tables for verifying many signatures with this public key.
+     *
+     * Wider windows make verification faster, but the table size grows
+     * exponentially with the window width.
+     *
+     * @param windowWidth the window width, between 4 and 8 inclusive.
+     * @return the prepared public key.
+     */
+    @NotNull
+    public Ed25519PreparedPublicKey prepare(int windowWidth) {
+        return new Ed25519PreparedPublicKey(this, windowWidth);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
      *
      * @return true if the signature is valid, false otherwise.
      */
@@ -64,38 +178,289 @@ public class Ed25519PublicKey {
     }
 
     /**
-     * Verify a signature over a message with this public key.
+     * Verify a signature over a message with this public key, using the
+     * {@link Ed25519VerificationPolicy#STRICT} policy.
      *
      * @return true if the signature is valid, false otherwise.
      */
     public boolean verify(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Signature signature) {
+        return this.verify(message, offset, length, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the given
+     * verification policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        return this.verify(message, 0, message.length, signature, policy);
+    }
+
+    /**
+     * Verify a signature over a message with this public key, using the given
+     * verification policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        Scalar k = this.computeChallenge(signature.R, message, offset, length);
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    /**
+     * Verify a signature over the remaining bytes of a buffer with this public
+     * key, using the {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * The message is read directly from the buffer, which may be a heap or
+     * direct buffer. The buffer's position is not changed.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull ByteBuffer message, @NotNull Ed25519Signature signature) {
+        return this.verify(message, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify a signature over the remaining bytes of a buffer with this public
+     * key, using the given verification policy.
+     *
+     * The message is read directly from the buffer, which may be a heap or
+     * direct buffer. The buffer's position is not changed.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull ByteBuffer message, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        Scalar k = this.computeChallenge(signature.R, message);
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    /**
+     * Verify an Ed25519ph signature over a prehashed message with this public
+     * key, using the {@link Ed25519VerificationPolicy#STRICT} policy. The
+     * prehash is finished if it has not been already.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verifyPrehashed(@NotNull Ed25519Prehash prehash, @NotNull Ed25519Signature signature) {
+        return this.verifyPrehashed(prehash, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify an Ed25519ph signature over a prehashed message with this public
+     * key, using the given verification policy. The prehash is finished if it
+     * has not been already.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verifyPrehashed(@NotNull Ed25519Prehash prehash, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519VerificationPolicy policy) {
+        return this.verifyPrehashed(prehash, signature, Ed25519Context.NONE, policy);
+    }
+
+    /**
+     * Verify an Ed25519ph signature over a prehashed message with this public
+     * key and the given context, using the
+     * {@link Ed25519VerificationPolicy#STRICT} policy. The prehash is finished
+     * if it has not been already.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verifyPrehashed(@NotNull Ed25519Prehash prehash, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519Context context) {
+        return this.verifyPrehashed(prehash, signature, context, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify an Ed25519ph signature over a prehashed message with this public
+     * key and the given context, using the given verification policy. The
+     * prehash is finished if it has not been already.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verifyPrehashed(@NotNull Ed25519Prehash prehash, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519Context context, @NotNull Ed25519VerificationPolicy policy) {
+        MessageDigest h = this.challengeDigest(context, true, signature.R);
+        h.update(prehash.finish());
+        Scalar k = Scalar.fromBytesModOrderWide(h.digest());
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    /**
+     * Verify an Ed25519ctx signature over a message with this public key and
+     * the given context, using the {@link Ed25519VerificationPolicy#STRICT}
+     * policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519Context context) {
+        return this.verify(message, 0, message.length, signature, context, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify an Ed25519ctx signature over a message with this public key and
+     * the given context, using the given verification policy.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify(@NotNull byte[] message, int offset, int length, @NotNull Ed25519Signature signature,
+            @NotNull Ed25519Context context, @NotNull Ed25519VerificationPolicy policy) {
+        MessageDigest h = this.challengeDigest(context, false, signature.R);
+        h.update(message, offset, length);
+        Scalar k = Scalar.fromBytesModOrderWide(h.digest());
+        return this.verifyChallenge(k, signature, policy);
+    }
+
+    /**
+     * Verify a signature over a message against several candidate public
+     * keys, using the {@link Ed25519VerificationPolicy#STRICT} policy.
+     *
+     * @return the index of the first candidate for which the signature is
+     *         valid, or -1 if there is none.
+     */
+    public static int verifyAny(@NotNull List<Ed25519PublicKey> candidates, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature) {
+        return verifyAny(candidates, message, 0, message.length, signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Verify a signature over a message against several candidate public
+     * keys, using the given verification policy.
+     *
+     * @return the index of the first candidate for which the signature is
+     *         valid, or -1 if there is none.
+     */
+    public static int verifyAny(@NotNull List<Ed25519PublicKey> candidates, @NotNull byte[] message,
+            @NotNull Ed25519Signature signature, @NotNull Ed25519VerificationPolicy policy) {
+        return verifyAny(candidates, message, 0, message.length, signature, policy);
+    }
+
+    /**
+     * Verify a signature over a message against several candidate public
+     * keys, using the given verification policy.
+     *
+     * This is useful during key rotation, or when a message may be signed by
+     * any one of a set of keys. The result for each candidate is identical to
+     * that of {@link #verify(byte[], int, int, Ed25519Signature,
+     * Ed25519VerificationPolicy)}, but R and [S]B are computed once and
+     * compared with [k]A for each candidate without a field inversion, so
+     * each candidate after the first costs less than a full verification.
+     *
+     * @return the index of the first candidate for which the signature is
+     *         valid, or -1 if there is none.
+     */
+    public static int verifyAny(@NotNull List<Ed25519PublicKey> candidates, @NotNull byte[] message, int offset,
+            int length, @NotNull Ed25519Signature signature, @NotNull Ed25519VerificationPolicy policy) {
+        ExtendedPoint R = policy.decodeR(signature.R);
+        if (R == null) {
+            return -1;
+        }
+        ExtendedPoint SBminusR = FixedBaseTable.basepoint().vartimeMultiply(signature.S).subtract(R);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Ed25519PublicKey candidate = candidates.get(i);
+            Scalar k = candidate.computeChallenge(signature.R, message, offset, length);
+            ExtendedPoint kA = Straus.vartimeMultiply(k, candidate.extendedPoint());
+            if (policy.checkEquation(SBminusR, kA)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Start verifying a signature over a message that will be provided
+     * incrementally, using the {@link Ed25519VerificationPolicy#STRICT}
+     * policy.
+     *
+     * @return a verifier for the signature.
+     */
+    @NotNull
+    public Ed25519Verifier verifier(@NotNull Ed25519Signature signature) {
+        return this.verifier(signature, Ed25519VerificationPolicy.STRICT);
+    }
+
+    /**
+     * Start verifying a signature over a message that will be provided
+     * incrementally, using the given verification policy.
+     *
+     * @return a verifier for the signature.
+     */
+    @NotNull
+    public Ed25519Verifier verifier(@NotNull Ed25519Signature signature, @NotNull Ed25519VerificationPolicy policy) {
+        return new Ed25519Verifier(this, signature, policy);
+    }
+
+    /**
+     * Check the verification equation for a signature, given its challenge
+     * scalar k.
+     */
+    boolean verifyChallenge(Scalar k, Ed25519Signature signature, Ed25519VerificationPolicy policy) {
+        // @formatter:off
+        // 3.  Check the group equation [8][S]B = [8]R + [8][k]A'. It's
+        //     sufficient, but not required, to instead check [S]B = R + [k]A'.
+        // @formatter:on
+        EdwardsPoint Aneg = this.point().negate();
+        EdwardsPoint SBminuskA = EdwardsPoint.vartimeDoubleScalarMultiplyBasepoint(k, Aneg, signature.S);
+        return policy.checkR(SBminuskA, signature.R);
+    }
+
+    /**
+     * Compute the challenge scalar k for a signature over a message with this
+     * public key.
+     */
+    Scalar computeChallenge(CompressedEdwardsY R, byte[] message, int offset, int length) {
+        MessageDigest h = this.challengeDigest(R);
+        h.update(message, offset, length);
+        return Scalar.fromBytesModOrderWide(h.digest());
+    }
+
+    /**
+     * Compute the challenge scalar k for a signature over the remaining bytes
+     * of a buffer with this public key, without changing the buffer's
+     * position.
+     */
+    Scalar computeChallenge(CompressedEdwardsY R, ByteBuffer message) {
+        MessageDigest h = this.challengeDigest(R);
+        int position = message.position();
+        h.update(message);
+        message.position(position);
+        return Scalar.fromBytesModOrderWide(h.digest());
+    }
+
+    /**
+     * Start computing the challenge for a signature with the given R value.
+     * The caller must then provide the message, and reduce the digest to
+     * obtain k.
+     */
+    MessageDigest challengeDigest(CompressedEdwardsY R) {
         // @formatter:off
         // RFC 8032, section 5.1:
         //   PH(x)   | x (i.e., the identity function)
         //   For Ed25519, dom2(f,c) is the empty string.
+        // @formatter:on
+        return this.challengeDigest(Ed25519Context.NONE, false, R);
+    }
 
+    /**
+     * Start computing the challenge for a signature with the given R value,
+     * using the dom2 prefix for the given context and variant. The caller must
+     * then provide PH(M), and reduce the digest to obtain k.
+     */
+    MessageDigest challengeDigest(Ed25519Context context, boolean prehash, CompressedEdwardsY R) {
+        // @formatter:off
         // RFC 8032, section 5.1.7:
         // 2.  Compute SHA512(dom2(F, C) || R || A || PH(M)), and interpret the
         //     64-octet digest as a little-endian integer k.
         // @formatter:on
-        MessageDigest h;
-        try {
-            h = MessageDigest.getInstance("SHA-512");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
-        h.update(signature.R.toByteArray());
+        MessageDigest h = context.digest(prehash);
+        h.update(R.toByteArray());
         h.update(this.Aenc.toByteArray());
-        h.update(message, offset, length);
-        Scalar k = Scalar.fromBytesModOrderWide(h.digest());
-
-        // @formatter:off
-        // 3.  Check the group equation [8][S]B = [8]R + [8][k]A'. It's
-        //     sufficient, but not required, to instead check [S]B = R + [k]A'.
-        // @formatter:on
-        EdwardsPoint Aneg = this.A.negate();
-        EdwardsPoint R = EdwardsPoint.vartimeDoubleScalarMultiplyBasepoint(k, Aneg, signature.S);
-        return R.compress().equals(signature.R);
+        return h;
     }
 
     @Override
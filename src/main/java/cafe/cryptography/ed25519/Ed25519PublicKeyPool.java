@@ -0,0 +1,142 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A factory for public keys that interns recently-used keys by their 32-byte
+ * encoding.
+ *
+ * Parsing a public key requires decompressing its point, which costs a field
+ * square root. When the same keys are parsed repeatedly, the pool returns the
+ * instance it already decompressed, at the cost of a single hash table lookup.
+ * The pool has a fixed capacity, and evicts cold keys using the CLOCK
+ * algorithm (an approximation of least-recently-used). Invalid encodings are
+ * not remembered.
+ *
+ * This class is thread-safe.
+ */
+public class Ed25519PublicKeyPool {
+    private final KeyedHasher hasher;
+    private final ClockCache<ByteArrayKey, Ed25519PublicKey> keys;
+
+    /**
+     * Construct an empty pool.
+     *
+     * @param capacity the maximum number of public keys to remember.
+     */
+    public Ed25519PublicKeyPool(int capacity) {
+        // Encodings are untrusted, so they are hashed with a random key to stop
+        // colliding encodings being ground offline.
+        this.hasher = new KeyedHasher();
+        this.keys = new ClockCache<ByteArrayKey, Ed25519PublicKey>(capacity);
+    }
+
+    /**
+     * Returns the public key with the given encoding, decompressing it if it
+     * is not in the pool.
+     *
+     * @return a public key.
+     * @throws InvalidEncodingException if the input is not a valid encoding.
+     */
+    @NotNull
+    public Ed25519PublicKey fromByteArray(@NotNull byte[] input) throws InvalidEncodingException {
+        if (input.length != 32) {
+            throw new IllegalArgumentException("public key length is wrong");
+        }
+
+        Ed25519PublicKey key = this.keys.get(this.hasher.key(input));
+        if (key != null) {
+            return key;
+        }
+        return this.insert(Arrays.copyOf(input, input.length));
+    }
+
+    /**
+     * Returns the public key encoded in the next 32 bytes of a buffer,
+     * decompressing it if it is not in the pool.
+     *
+     * The bytes are read starting at the buffer's current position, which is
+     * then advanced by 32. If the key cannot be parsed, the position is not
+     * changed. Both heap and direct buffers are supported.
+     *
+     * @return a public key.
+     * @throws InvalidEncodingException if the input is not a valid encoding.
+     */
+    @NotNull
+    public Ed25519PublicKey fromByteBuffer(@NotNull ByteBuffer input) throws InvalidEncodingException {
+        if (input.remaining() < 32) {
+            throw new IllegalArgumentException("public key length is wrong");
+        }
+
+        byte[] encoded = new byte[32];
+        input.duplicate().get(encoded);
+        Ed25519PublicKey key = this.keys.get(this.hasher.key(encoded));
+        if (key == null) {
+            key = this.insert(encoded);
+        }
+        input.position(input.position() + 32);
+        return key;
+    }
+
+    /**
+     * Decompress a key and add it to the pool. If another thread added the
+     * same key first, its instance is returned instead.
+     */
+    private Ed25519PublicKey insert(byte[] encoded) throws InvalidEncodingException {
+        Ed25519PublicKey key = Ed25519PublicKey.decode(encoded);
+        return this.keys.put(this.hasher.key(encoded), key);
+    }
+
+    /**
+     * Returns the maximum number of public keys that are remembered.
+     */
+    public int capacity() {
+        return this.keys.capacity();
+    }
+
+    /**
+     * Returns the number of public keys that are currently remembered.
+     */
+    public int size() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the number of lookups that returned a pooled key.
+     */
+    public long hitCount() {
+        return this.keys.hitCount();
+    }
+
+    /**
+     * Returns the number of lookups that had to decompress a key, including
+     * those of invalid encodings.
+     */
+    public long missCount() {
+        return this.keys.missCount();
+    }
+
+    /**
+     * Returns the number of keys that were evicted to make room for others.
+     */
+    public long evictionCount() {
+        return this.keys.evictionCount();
+    }
+
+    /**
+     * Forget all pooled keys. The statistics are not reset.
+     */
+    public void clear() {
+        this.keys.clear();
+    }
+}
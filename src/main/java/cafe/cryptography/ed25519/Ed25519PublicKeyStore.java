@@ -0,0 +1,380 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A directory of public keys identified by 64-bit key IDs, stored outside the
+ * Java heap.
+ *
+ * The store keeps each key as its packed 32-byte encoding, together with an
+ * open-addressing hash index from key ID to slot, in either a memory-mapped
+ * file or direct memory. Its size is fixed when it is created: 40 bytes per
+ * key, plus 4 bytes per index bucket, with at least two buckets per key. A
+ * file-backed store can be reopened without reading or rebuilding anything.
+ *
+ * Keys are only decompressed when they are looked up with {@link #get(long)},
+ * and a bounded number of decompressed keys are kept on the heap in a cache
+ * that evicts cold keys using the CLOCK algorithm.
+ *
+ * Keys can be added or replaced, but not removed. This class is thread-safe.
+ */
+public class Ed25519PublicKeyStore implements Closeable {
+    private static final byte[] MAGIC = new byte[] { 'E', 'D', '2', '5', '5', '1', '9', 'K' };
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+
+    private static final int ID_SIZE = 8;
+    private static final int ENCODING_SIZE = 32;
+    private static final int BUCKET_SIZE = 4;
+
+    private final FileChannel channel;
+    private final LargeBuffer header;
+    private final LargeBuffer ids;
+    private final LargeBuffer encodings;
+    private final LargeBuffer index;
+    private final int capacity;
+    private final long bucketMask;
+    private int size;
+
+    private final ReadWriteLock lock;
+    private final ClockCache<Long, Ed25519PublicKey> cache;
+
+    private Ed25519PublicKeyStore(FileChannel channel, LargeBuffer header, LargeBuffer ids, LargeBuffer encodings,
+            LargeBuffer index, int capacity, int cacheCapacity) {
+        this.channel = channel;
+        this.header = header;
+        this.ids = ids;
+        this.encodings = encodings;
+        this.index = index;
+        this.capacity = capacity;
+        this.bucketMask = bucketCount(capacity) - 1;
+        this.size = header.getInt(SIZE_OFFSET);
+        this.lock = new ReentrantReadWriteLock();
+        this.cache = new ClockCache<Long, Ed25519PublicKey>(cacheCapacity);
+    }
+
+    /**
+     * Create an empty store in a new file.
+     *
+     * @param path the file to create; it must not already exist.
+     * @param capacity the maximum number of keys.
+     * @param cacheCapacity the maximum number of decompressed keys to cache.
+     * @return the store.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    @NotNull
+    public static Ed25519PublicKeyStore create(@NotNull Path path, int capacity, int cacheCapacity)
+            throws IOException {
+        checkCapacity(capacity);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            Ed25519PublicKeyStore store = map(channel, capacity, cacheCapacity);
+            store.header.put(0, MAGIC);
+            store.header.putInt(VERSION_OFFSET, VERSION);
+            store.header.putInt(CAPACITY_OFFSET, capacity);
+            store.header.putInt(SIZE_OFFSET, 0);
+            return store;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a store that was previously created with
+     * {@link #create(Path, int, int)}.
+     *
+     * @param path the file containing the store.
+     * @param cacheCapacity the maximum number of decompressed keys to cache.
+     * @return the store.
+     * @throws IOException if the file cannot be mapped, or is not a valid
+     *                     store.
+     */
+    @NotNull
+    public static Ed25519PublicKeyStore open(@NotNull Path path, int cacheCapacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Invalid key store");
+            }
+            LargeBuffer header = LargeBuffer.map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            byte[] magic = new byte[MAGIC.length];
+            header.get(0, magic);
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            int size = header.getInt(SIZE_OFFSET);
+            if (!Arrays.equals(magic, MAGIC) || header.getInt(VERSION_OFFSET) != VERSION || capacity < 1
+                    || size < 0 || size > capacity || channel.size() != fileSize(capacity)) {
+                throw new IOException("Invalid key store");
+            }
+            return map(channel, capacity, cacheCapacity);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Create an empty store in direct memory, outside the Java heap.
+     *
+     * @param capacity the maximum number of keys.
+     * @param cacheCapacity the maximum number of decompressed keys to cache.
+     * @return the store.
+     */
+    @NotNull
+    public static Ed25519PublicKeyStore allocate(int capacity, int cacheCapacity) {
+        checkCapacity(capacity);
+        return new Ed25519PublicKeyStore(null, LargeBuffer.allocateDirect(HEADER_SIZE),
+                LargeBuffer.allocateDirect((long) ID_SIZE * capacity),
+                LargeBuffer.allocateDirect((long) ENCODING_SIZE * capacity),
+                LargeBuffer.allocateDirect(BUCKET_SIZE * bucketCount(capacity)), capacity, cacheCapacity);
+    }
+
+    private static Ed25519PublicKeyStore map(FileChannel channel, int capacity, int cacheCapacity)
+            throws IOException {
+        FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+        long idsOffset = HEADER_SIZE;
+        long encodingsOffset = idsOffset + (long) ID_SIZE * capacity;
+        long indexOffset = encodingsOffset + (long) ENCODING_SIZE * capacity;
+        return new Ed25519PublicKeyStore(channel, LargeBuffer.map(channel, mode, 0, HEADER_SIZE),
+                LargeBuffer.map(channel, mode, idsOffset, encodingsOffset - idsOffset),
+                LargeBuffer.map(channel, mode, encodingsOffset, indexOffset - encodingsOffset),
+                LargeBuffer.map(channel, mode, indexOffset, BUCKET_SIZE * bucketCount(capacity)), capacity,
+                cacheCapacity);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+    }
+
+    /**
+     * Returns the number of index buckets: the smallest power of two that is
+     * at least twice the capacity, so that probe sequences stay short.
+     */
+    private static long bucketCount(int capacity) {
+        return Long.highestOneBit(2L * capacity - 1) << 1;
+    }
+
+    private static long fileSize(int capacity) {
+        return HEADER_SIZE + (long) (ID_SIZE + ENCODING_SIZE) * capacity + BUCKET_SIZE * bucketCount(capacity);
+    }
+
+    /**
+     * Add a public key to the store, replacing any key with the same ID.
+     *
+     * @throws IllegalStateException if the store is full.
+     */
+    public void put(long id, @NotNull Ed25519PublicKey publicKey) {
+        byte[] encoding = publicKey.Aenc.toByteArray();
+        this.lock.writeLock().lock();
+        try {
+            int slot = this.find(id);
+            if (slot >= 0) {
+                this.encodings.put((long) ENCODING_SIZE * slot, encoding);
+                this.cache.remove(id);
+                return;
+            }
+
+            if (this.size == this.capacity) {
+                throw new IllegalStateException("key store is full");
+            }
+            slot = this.size;
+            this.ids.putLong((long) ID_SIZE * slot, id);
+            this.encodings.put((long) ENCODING_SIZE * slot, encoding);
+            this.index.putInt(BUCKET_SIZE * this.emptyBucket(id), slot + 1);
+            this.size++;
+            this.header.putInt(SIZE_OFFSET, this.size);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns true if the store contains a key with the given ID.
+     */
+    public boolean contains(long id) {
+        this.lock.readLock().lock();
+        try {
+            return this.find(id) >= 0;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the 32-byte encoding of the key with the given ID, without
+     * decompressing it.
+     *
+     * @return the encoding, or null if the store has no key with the given ID.
+     */
+    public byte[] encoding(long id) {
+        this.lock.readLock().lock();
+        try {
+            int slot = this.find(id);
+            if (slot < 0) {
+                return null;
+            }
+            byte[] encoding = new byte[ENCODING_SIZE];
+            this.encodings.get((long) ENCODING_SIZE * slot, encoding);
+            return encoding;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the key with the given ID, decompressing it if it is not cached.
+     *
+     * @return the public key, or null if the store has no key with the given
+     *         ID.
+     * @throws IllegalStateException if the stored encoding is invalid, which
+     *                               can only happen if the file was modified
+     *                               externally.
+     */
+    public Ed25519PublicKey get(long id) {
+        this.lock.readLock().lock();
+        try {
+            Ed25519PublicKey publicKey = this.cache.get(id);
+            if (publicKey != null) {
+                return publicKey;
+            }
+
+            int slot = this.find(id);
+            if (slot < 0) {
+                return null;
+            }
+            byte[] encoding = new byte[ENCODING_SIZE];
+            this.encodings.get((long) ENCODING_SIZE * slot, encoding);
+            try {
+                publicKey = Ed25519PublicKey.decode(encoding);
+            } catch (InvalidEncodingException e) {
+                throw new IllegalStateException("key store entry is invalid", e);
+            }
+            return this.cache.put(id, publicKey);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the slot holding the given ID, or -1.
+     */
+    private int find(long id) {
+        for (long bucket = hash(id) & this.bucketMask;; bucket = (bucket + 1) & this.bucketMask) {
+            int entry = this.index.getInt(BUCKET_SIZE * bucket);
+            if (entry == 0) {
+                return -1;
+            }
+            if (this.ids.getLong((long) ID_SIZE * (entry - 1)) == id) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the first empty bucket in the probe sequence for the given ID.
+     */
+    private long emptyBucket(long id) {
+        long bucket = hash(id) & this.bucketMask;
+        while (this.index.getInt(BUCKET_SIZE * bucket) != 0) {
+            bucket = (bucket + 1) & this.bucketMask;
+        }
+        return bucket;
+    }
+
+    /**
+     * The MurmurHash3 finalizer, so that sequential IDs are spread evenly.
+     */
+    private static long hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Returns the number of keys in the store.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of keys in the store.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of lookups that found a decompressed key in the
+     * cache.
+     */
+    public long hitCount() {
+        return this.cache.hitCount();
+    }
+
+    /**
+     * Returns the number of lookups that were not found in the cache,
+     * including those of unknown IDs.
+     */
+    public long missCount() {
+        return this.cache.missCount();
+    }
+
+    /**
+     * Write any changes to a file-backed store to the storage device.
+     */
+    public void flush() {
+        this.lock.writeLock().lock();
+        try {
+            this.header.force();
+            this.ids.force();
+            this.encodings.force();
+            this.index.force();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flush a file-backed store and close its file. The store must not be used
+     * afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        this.flush();
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks whether at least k of n signers have signed the same message.
+ *
+ * Signatures are batch-verified in signer order, in chunks just large enough
+ * to reach the threshold if every signature in the chunk is valid. Checking
+ * stops as soon as the threshold is reached, or as soon as it can no longer be
+ * reached, so signatures after that point are not hashed or verified.
+ *
+ * As with {@link Ed25519BatchVerifier}, signatures are checked with the
+ * {@link Ed25519VerificationPolicy#ZIP215} rules.
+ *
+ * This class is not thread-safe.
+ */
+public class Ed25519QuorumVerifier {
+    private final byte[] message;
+    private final SecureRandom random;
+    private final List<Ed25519PublicKey> publicKeys;
+    private final List<Ed25519Signature> signatures;
+    /**
+     * The canonical encodings of the signers' points, so that non-canonical
+     * encodings of the same key are not counted as different signers.
+     */
+    private final Set<ByteArrayKey> signers;
+
+    /**
+     * The outcome of a quorum check.
+     */
+    public static class Result {
+        private final int threshold;
+        private final BitSet valid;
+        private final BitSet invalid;
+
+        Result(int threshold, BitSet valid, BitSet invalid) {
+            this.threshold = threshold;
+            this.valid = valid;
+            this.invalid = invalid;
+        }
+
+        /**
+         * Returns true if at least the threshold number of signatures are
+         * valid.
+         */
+        public boolean isQuorum() {
+            return this.valid.cardinality() >= this.threshold;
+        }
+
+        /**
+         * Returns the number of signatures that were confirmed valid.
+         */
+        public int validCount() {
+            return this.valid.cardinality();
+        }
+
+        /**
+         * Returns a bitmap in which bit i is set if the i-th signer's
+         * signature was confirmed valid.
+         */
+        @NotNull
+        public BitSet valid() {
+            return (BitSet) this.valid.clone();
+        }
+
+        /**
+         * Returns a bitmap in which bit i is set if the i-th signer's
+         * signature was found to be invalid. Signers that are in neither
+         * bitmap were not checked.
+         */
+        @NotNull
+        public BitSet invalid() {
+            return (BitSet) this.invalid.clone();
+        }
+    }
+
+    /**
+     * Construct an empty quorum over the given message, that uses a new
+     * SecureRandom for batch verification.
+     *
+     * The message is not copied, so the caller must not modify it until
+     * verification is complete.
+     */
+    public Ed25519QuorumVerifier(@NotNull byte[] message) {
+        this(message, new SecureRandom());
+    }
+
+    /**
+     * Construct an empty quorum over the given message, that uses the given
+     * SecureRandom for batch verification.
+     *
+     * The message is not copied, so the caller must not modify it until
+     * verification is complete.
+     */
+    public Ed25519QuorumVerifier(@NotNull byte[] message, @NotNull SecureRandom random) {
+        this.message = message;
+        this.random = random;
+        this.publicKeys = new ArrayList<Ed25519PublicKey>();
+        this.signatures = new ArrayList<Ed25519Signature>();
+        this.signers = new HashSet<ByteArrayKey>();
+    }
+
+    /**
+     * Add a signer's signature over the message.
+     *
+     * @throws IllegalArgumentException if the public key, or another
+     *                                  encoding of the same point, has
+     *                                  already been added, so that no signer
+     *                                  is counted twice towards the threshold.
+     */
+    public void add(@NotNull Ed25519PublicKey publicKey, @NotNull Ed25519Signature signature) {
+        // ZIP 215 accepts non-canonical encodings of A, so compare signers by
+        // the canonical encoding of their points.
+        if (!this.signers.add(new ByteArrayKey(publicKey.point().compress().toByteArray()))) {
+            throw new IllegalArgumentException("duplicate signer");
+        }
+        this.publicKeys.add(publicKey);
+        this.signatures.add(signature);
+    }
+
+    /**
+     * Returns the number of signers that have been added.
+     */
+    public int size() {
+        return this.publicKeys.size();
+    }
+
+    /**
+     * Check whether at least the given number of signatures are valid.
+     *
+     * @param threshold the number of valid signatures required, between 1 and
+     *                  {@link #size()} inclusive.
+     * @return the result of the check.
+     */
+    @NotNull
+    public Result verify(int threshold) {
+        int n = this.publicKeys.size();
+        if (threshold < 1 || threshold > n) {
+            throw new IllegalArgumentException("threshold must be between 1 and the number of signers");
+        }
+
+        BitSet valid = new BitSet(n);
+        BitSet invalid = new BitSet(n);
+        int validCount = 0;
+        int next = 0;
+        // Stop once the quorum is reached, or once there are too few unchecked
+        // signatures left to reach it.
+        while (validCount < threshold && validCount + (n - next) >= threshold) {
+            int chunk = threshold - validCount;
+            Ed25519BatchVerifier batch = new Ed25519BatchVerifier(this.random);
+            for (int i = next; i < next + chunk; i++) {
+                batch.queue(this.publicKeys.get(i), this.message, this.signatures.get(i));
+            }
+
+            BitSet chunkValid = batch.verifyEach();
+            for (int j = 0; j < chunk; j++) {
+                if (chunkValid.get(j)) {
+                    valid.set(next + j);
+                    validCount++;
+                } else {
+                    invalid.set(next + j);
+                }
+            }
+            next += chunk;
+        }
+
+        return new Result(threshold, valid, invalid);
+    }
+}
@@ -6,6 +6,7 @@
 
 package cafe.cryptography.ed25519;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import cafe.cryptography.curve25519.CompressedEdwardsY;
@@ -35,6 +36,35 @@ public class Ed25519Signature {
             throw new IllegalArgumentException("signature length is wrong");
         }
 
+        return fromBytes(Arrays.copyOfRange(input, 0, 32), Arrays.copyOfRange(input, 32, 64));
+    }
+
+    /**
+     * Construct an Ed25519Signature from the next 64 bytes of a buffer.
+     *
+     * The bytes are read starting at the buffer's current position, which is
+     * then advanced by 64. If the signature cannot be parsed, the position is
+     * not changed. Both heap and direct buffers are supported.
+     *
+     * @return a signature.
+     */
+    @NotNull
+    public static Ed25519Signature fromByteBuffer(@NotNull ByteBuffer input) {
+        if (input.remaining() < 64) {
+            throw new IllegalArgumentException("signature length is wrong");
+        }
+
+        byte[] Rbytes = new byte[32];
+        byte[] Sbytes = new byte[32];
+        ByteBuffer view = input.duplicate();
+        view.get(Rbytes);
+        view.get(Sbytes);
+        Ed25519Signature signature = fromBytes(Rbytes, Sbytes);
+        input.position(input.position() + 64);
+        return signature;
+    }
+
+    private static Ed25519Signature fromBytes(byte[] Rbytes, byte[] Sbytes) {
         // RFC 8032, section 5.1.7:
         // @formatter:off
         // 1. To verify a signature [...], first split the signature into two
@@ -43,16 +73,16 @@ public class Ed25519Signature {
         //    any of the decodings fail (including S being out of range), the
         //    signature is invalid.
         // @formatter:on
-        CompressedEdwardsY R = new CompressedEdwardsY(Arrays.copyOfRange(input, 0, 32));
+        CompressedEdwardsY R = new CompressedEdwardsY(Rbytes);
 
         // If the four most significant bits are unset, we know the scalar is
         // guaranteed to be fully reduced modulo the order of the basepoint, and
         // thus we can skip the full check.
         Scalar S;
-        if ((input[63] & 240) == 0) {
-            S = Scalar.fromBits(Arrays.copyOfRange(input, 32, 64));
+        if ((Sbytes[31] & 240) == 0) {
+            S = Scalar.fromBits(Sbytes);
         } else {
-            S = Scalar.fromCanonicalBytes(Arrays.copyOfRange(input, 32, 64));
+            S = Scalar.fromCanonicalBytes(Sbytes);
         }
 
         return new Ed25519Signature(R, S);
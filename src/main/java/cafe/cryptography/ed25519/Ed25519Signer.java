@@ -0,0 +1,125 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import cafe.cryptography.curve25519.Constants;
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A reusable context for creating many signatures with one expanded private
+ * key.
+ *
+ * The signer reuses one SHA-512 instance for every signature, rather than
+ * looking up a new digest each time, and writes each signature into a
+ * caller-supplied array or buffer instead of returning an
+ * {@link Ed25519Signature}. The signatures are identical to those of
+ * {@link Ed25519ExpandedPrivateKey#sign(byte[])}.
+ *
+ * This class is not thread-safe; use one signer per thread.
+ */
+public class Ed25519Signer {
+    private final Scalar s;
+    private final byte[] prefix;
+    private final byte[] Aenc;
+    private final FixedBaseTable table;
+    private final MessageDigest h;
+    private final byte[] digest;
+    private final byte[] signature;
+
+    Ed25519Signer(Scalar s, byte[] prefix, Ed25519PublicKey publicKey, FixedBaseTable table) {
+        this.s = s;
+        this.prefix = prefix;
+        this.Aenc = publicKey.toByteArray();
+        this.table = table;
+        try {
+            this.h = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        this.digest = new byte[64];
+        this.signature = new byte[64];
+    }
+
+    /**
+     * Sign a message, writing the 64-byte signature into an array.
+     *
+     * @param out the array to write the signature into.
+     * @param outOffset the offset in the array at which to write the signature.
+     */
+    public void sign(@NotNull byte[] message, int offset, int length, @NotNull byte[] out, int outOffset) {
+        if (outOffset < 0 || out.length - outOffset < 64) {
+            throw new IllegalArgumentException("signature does not fit in output");
+        }
+        if (offset < 0 || length < 0 || message.length - offset < length) {
+            throw new IllegalArgumentException("message bounds are out of range");
+        }
+
+        // Discard any input left by a previous call that failed part-way.
+        this.h.reset();
+
+        // r = SHA-512(prefix || M)
+        this.h.update(this.prefix);
+        this.h.update(message, offset, length);
+        Scalar r = Ed25519ExpandedPrivateKey.reduce(this.table, this.finish());
+        byte[] R;
+        if (this.table == null) {
+            R = Constants.ED25519_BASEPOINT_TABLE.multiply(r).compress().toByteArray();
+        } else {
+            R = this.table.multiply(r).compress();
+        }
+
+        // k = SHA-512(R || A || M)
+        this.h.update(R);
+        this.h.update(this.Aenc);
+        this.h.update(message, offset, length);
+        Scalar k = Ed25519ExpandedPrivateKey.reduce(this.table, this.finish());
+
+        // S = r + k * s
+        byte[] S = Ed25519ExpandedPrivateKey.multiplyAndAdd(this.table, k, this.s, r).toByteArray();
+
+        System.arraycopy(R, 0, out, outOffset, 32);
+        System.arraycopy(S, 0, out, outOffset + 32, 32);
+    }
+
+    /**
+     * Sign a message, writing the 64-byte signature into a buffer at its
+     * current position, which is then advanced by 64.
+     *
+     * @param out the buffer to write the signature into.
+     */
+    public void sign(@NotNull byte[] message, int offset, int length, @NotNull ByteBuffer out) {
+        if (out.remaining() < 64) {
+            throw new IllegalArgumentException("signature does not fit in output");
+        }
+
+        if (out.hasArray()) {
+            this.sign(message, offset, length, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + 64);
+        } else {
+            this.sign(message, offset, length, this.signature, 0);
+            out.put(this.signature);
+        }
+    }
+
+    /**
+     * Finish the current digest into the scratch buffer.
+     */
+    private byte[] finish() {
+        try {
+            this.h.digest(this.digest, 0, 64);
+        } catch (DigestException e) {
+            throw new RuntimeException(e);
+        }
+        return this.digest;
+    }
+}
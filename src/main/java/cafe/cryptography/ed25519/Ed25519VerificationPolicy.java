@@ -0,0 +1,141 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import cafe.cryptography.curve25519.CompressedEdwardsY;
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.InvalidEncodingException;
+
+/**
+ * The set of rules used to decide whether an Ed25519 signature is valid.
+ *
+ * RFC 8032 allows implementations to check either the cofactored or the
+ * cofactorless verification equation, and implementations also differ in
+ * which point encodings they accept. These differences are harmless for
+ * signatures produced by honest signers, but can cause consensus failures
+ * when different nodes verify adversarial signatures.
+ */
+public enum Ed25519VerificationPolicy {
+    /**
+     * Check the cofactorless equation [S]B = R + [k]A, by encoding [S]B - [k]A
+     * and comparing it with the R component of the signature. This rejects
+     * non-canonical encodings of R.
+     *
+     * This is the behaviour of
+     * {@link Ed25519PublicKey#verify(byte[], Ed25519Signature)}.
+     */
+    STRICT,
+
+    /**
+     * Check the cofactored equation [8]([S]B - R - [k]A) = 0, accepting
+     * non-canonical encodings of R and A, as specified by ZIP 215.
+     *
+     * This gives the same results as batch verification with
+     * {@link Ed25519BatchVerifier}, so it is suitable for consensus-critical
+     * code that mixes single and batch verification.
+     *
+     * @see <a href="https://zips.z.cash/zip-0215">ZIP 215</a>
+     */
+    ZIP215;
+
+    /**
+     * Check whether [S]B - [k]A matches the R component of a signature.
+     *
+     * @param SBminuskA the point [S]B - [k]A.
+     * @param R the encoding of R from the signature.
+     * @return true if the signature is valid under this policy.
+     */
+    boolean checkR(EdwardsPoint SBminuskA, CompressedEdwardsY R) {
+        switch (this) {
+        case STRICT:
+            return SBminuskA.compress().equals(R);
+        case ZIP215:
+            EdwardsPoint Rpoint;
+            try {
+                Rpoint = R.decompress();
+            } catch (InvalidEncodingException e) {
+                return false;
+            }
+            return SBminuskA.subtract(Rpoint).multiplyByCofactor().isIdentity();
+        default:
+            throw new IllegalStateException("unknown verification policy");
+        }
+    }
+
+    /**
+     * Check whether [S]B - [k]A matches the R component for each of many
+     * signatures. Under the strict policy, the points are encoded with a
+     * single shared field inversion.
+     *
+     * @param SBminuskA the points [S_i]B - [k_i]A_i.
+     * @param R the encodings of R_i from the signatures.
+     * @return a bitmap in which bit i is set if the i-th signature is valid
+     *         under this policy.
+     */
+    BitSet checkR(ExtendedPoint[] SBminuskA, CompressedEdwardsY[] R) {
+        BitSet valid = new BitSet(R.length);
+        switch (this) {
+        case STRICT:
+            byte[][] encodings = ExtendedPoint.compressBatch(SBminuskA);
+            for (int i = 0; i < R.length; i++) {
+                valid.set(i, Arrays.equals(encodings[i], R[i].toByteArray()));
+            }
+            return valid;
+        case ZIP215:
+            for (int i = 0; i < R.length; i++) {
+                ExtendedPoint Rpoint = ExtendedPoint.decompress(R[i].toByteArray());
+                valid.set(i, Rpoint != null && SBminuskA[i].subtract(Rpoint).multiplyByCofactor().isIdentity());
+            }
+            return valid;
+        default:
+            throw new IllegalStateException("unknown verification policy");
+        }
+    }
+
+    /**
+     * Decode the R component of a signature for comparison with points that
+     * have not been encoded, in variable time.
+     *
+     * @param R the encoding of R from the signature.
+     * @return the point, or null if no signature with this R value can be
+     *         valid under this policy.
+     */
+    ExtendedPoint decodeR(CompressedEdwardsY R) {
+        byte[] encoding = R.toByteArray();
+        ExtendedPoint Rpoint = ExtendedPoint.decompress(encoding);
+        switch (this) {
+        case STRICT:
+            // Encodings of [S]B - [k]A are always canonical, so a
+            // non-canonical R can never match.
+            return Rpoint != null && Arrays.equals(Rpoint.compress(), encoding) ? Rpoint : null;
+        case ZIP215:
+            return Rpoint;
+        default:
+            throw new IllegalStateException("unknown verification policy");
+        }
+    }
+
+    /**
+     * Check the verification equation, given [S]B - R, with R obtained from
+     * {@link #decodeR(CompressedEdwardsY)}, and [k]A.
+     *
+     * @return true if the signature is valid under this policy.
+     */
+    boolean checkEquation(ExtendedPoint SBminusR, ExtendedPoint kA) {
+        switch (this) {
+        case STRICT:
+            return SBminusR.vartimeEquals(kA);
+        case ZIP215:
+            return SBminusR.subtract(kA).multiplyByCofactor().isIdentity();
+        default:
+            throw new IllegalStateException("unknown verification policy");
+        }
+    }
+}
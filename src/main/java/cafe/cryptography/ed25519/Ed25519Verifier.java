@@ -0,0 +1,138 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+import cafe.cryptography.curve25519.Scalar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Verifies an Ed25519 signature over a message that is provided incrementally.
+ *
+ * Ed25519 hashes R || A || M, and both R and A are known before the message,
+ * so the message can be verified in a single pass without being held in
+ * memory. The result is identical to
+ * {@link Ed25519PublicKey#verify(byte[], Ed25519Signature,
+ * Ed25519VerificationPolicy)} over the concatenation of all updates.
+ *
+ * A verifier can only be used once, and is not thread-safe.
+ */
+public class Ed25519Verifier {
+    /**
+     * The size of the buffer used to read from streams and channels.
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Ed25519PublicKey publicKey;
+    private final Ed25519Signature signature;
+    private final Ed25519VerificationPolicy policy;
+    private final MessageDigest h;
+    private boolean finished;
+
+    Ed25519Verifier(Ed25519PublicKey publicKey, Ed25519Signature signature, Ed25519VerificationPolicy policy) {
+        this.publicKey = publicKey;
+        this.signature = signature;
+        this.policy = policy;
+        this.h = publicKey.challengeDigest(signature.R);
+        this.finished = false;
+    }
+
+    private void checkNotFinished() {
+        if (this.finished) {
+            throw new IllegalStateException("verifier has already been used");
+        }
+    }
+
+    /**
+     * Append part of the message.
+     *
+     * @return this verifier.
+     */
+    @NotNull
+    public Ed25519Verifier update(@NotNull byte[] input) {
+        return this.update(input, 0, input.length);
+    }
+
+    /**
+     * Append part of the message.
+     *
+     * @return this verifier.
+     */
+    @NotNull
+    public Ed25519Verifier update(@NotNull byte[] input, int offset, int length) {
+        this.checkNotFinished();
+        this.h.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Append the remaining bytes of a buffer to the message. On return, the
+     * buffer's position will be equal to its limit.
+     *
+     * @return this verifier.
+     */
+    @NotNull
+    public Ed25519Verifier update(@NotNull ByteBuffer input) {
+        this.checkNotFinished();
+        this.h.update(input);
+        return this;
+    }
+
+    /**
+     * Append the contents of a stream to the message, reading until the end of
+     * the stream. The stream is not closed.
+     *
+     * @return this verifier.
+     * @throws IOException if the stream cannot be read.
+     */
+    @NotNull
+    public Ed25519Verifier update(@NotNull InputStream input) throws IOException {
+        this.checkNotFinished();
+        byte[] buf = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buf)) != -1) {
+            this.h.update(buf, 0, read);
+        }
+        return this;
+    }
+
+    /**
+     * Append the contents of a channel to the message, reading from its current
+     * position until the end of the file. The channel is not closed.
+     *
+     * @return this verifier.
+     * @throws IOException if the channel cannot be read.
+     */
+    @NotNull
+    public Ed25519Verifier update(@NotNull FileChannel input) throws IOException {
+        this.checkNotFinished();
+        ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+        while (input.read(buf) != -1) {
+            buf.flip();
+            this.h.update(buf);
+            buf.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Verify the signature over the message provided so far.
+     *
+     * @return true if the signature is valid, false otherwise.
+     */
+    public boolean verify() {
+        this.checkNotFinished();
+        this.finished = true;
+        Scalar k = Scalar.fromBytesModOrderWide(this.h.digest());
+        return this.publicKey.verifyChallenge(k, this.signature, this.policy);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.CompressedEdwardsY;
+import cafe.cryptography.curve25519.EdwardsPoint;
+
+/**
+ * A point (X:Y:Z:T) on the twisted Edwards form of Curve25519, in extended
+ * coordinates.
+ *
+ * Unlike {@link EdwardsPoint}, this exposes its coordinates to the rest of
+ * this module, so that expensive steps such as the field inversion in point
+ * compression can be shared between many points. Points are exchanged with
+ * {@link EdwardsPoint} through their compressed encodings.
+ */
+final class ExtendedPoint {
+    static final ExtendedPoint IDENTITY = new ExtendedPoint(FieldElement.ZERO, FieldElement.ONE, FieldElement.ONE,
+            FieldElement.ZERO);
+
+    final FieldElement X;
+    final FieldElement Y;
+    final FieldElement Z;
+    final FieldElement T;
+
+    ExtendedPoint(FieldElement X, FieldElement Y, FieldElement Z, FieldElement T) {
+        this.X = X;
+        this.Y = Y;
+        this.Z = Z;
+        this.T = T;
+    }
+
+    /**
+     * Attempt to decompress a 32-byte encoding to a point, in variable time.
+     *
+     * This accepts the same encodings as {@link CompressedEdwardsY#decompress()},
+     * including non-canonical encodings of y.
+     *
+     * @return the point, or null if the input is not a valid encoding.
+     */
+    static ExtendedPoint decompress(byte[] encoding) {
+        FieldElement Y = FieldElement.fromByteArray(encoding);
+        FieldElement YY = Y.square();
+
+        // u = y^2 - 1
+        FieldElement u = YY.subtract(FieldElement.ONE);
+
+        // v = dy^2 + 1
+        FieldElement v = YY.multiply(FieldElement.EDWARDS_D).add(FieldElement.ONE);
+
+        FieldElement X = sqrtRatio(u, v);
+        if (X == null) {
+            return null;
+        }
+
+        // Use the sign bit to select the correct square root.
+        if ((encoding[31] & 0x80) != 0) {
+            X = X.negate();
+        }
+
+        return new ExtendedPoint(X, Y, FieldElement.ONE, X.multiply(Y));
+    }
+
+    /**
+     * Compute the non-negative square root of u/v, in variable time.
+     *
+     * @return the square root, or null if u/v is not a square.
+     */
+    private static FieldElement sqrtRatio(FieldElement u, FieldElement v) {
+        // r = (u * v^3) * (u * v^7)^((p - 5) / 8)
+        FieldElement v3 = v.square().multiply(v);
+        FieldElement v7 = v3.square().multiply(v);
+        FieldElement r = u.multiply(v3).multiply(u.multiply(v7).powP58());
+        FieldElement check = v.multiply(r.square());
+
+        if (check.ctEquals(u) == 1) {
+            // r is a square root of u/v.
+        } else if (check.ctEquals(u.negate()) == 1) {
+            // r * sqrt(-1) is a square root of u/v.
+            r = r.multiply(FieldElement.SQRT_M1);
+        } else {
+            return null;
+        }
+
+        return r.isNegative() == 1 ? r.negate() : r;
+    }
+
+    /**
+     * Compress this point to its 32-byte encoding. This costs a field
+     * inversion.
+     */
+    byte[] compress() {
+        byte[] s = new byte[32];
+        this.compressTo(this.Z.invert(), s, 0);
+        return s;
+    }
+
+    /**
+     * Compress many points, sharing a single field inversion between them.
+     *
+     * @return the 32-byte encodings, in the same order as the points.
+     */
+    static byte[][] compressBatch(ExtendedPoint[] points) {
+        FieldElement[] Z = new FieldElement[points.length];
+        for (int i = 0; i < points.length; i++) {
+            Z[i] = points[i].Z;
+        }
+        FieldElement[] Zinv = FieldElement.batchInvert(Z);
+
+        byte[][] encodings = new byte[points.length][32];
+        for (int i = 0; i < points.length; i++) {
+            points[i].compressTo(Zinv[i], encodings[i], 0);
+        }
+        return encodings;
+    }
+
+    /**
+     * Write the encoding of this point, given the inverse of its Z coordinate.
+     */
+    void compressTo(FieldElement Zinv, byte[] out, int offset) {
+        FieldElement x = this.X.multiply(Zinv);
+        FieldElement y = this.Y.multiply(Zinv);
+        y.encodeTo(out, offset);
+        out[offset + 31] |= (byte) (x.isNegative() << 7);
+    }
+
+    ProjectivePoint toProjective() {
+        return new ProjectivePoint(this.X, this.Y, this.Z);
+    }
+
+    ProjectiveNielsPoint toProjectiveNiels() {
+        return new ProjectiveNielsPoint(this.Y.add(this.X), this.Y.subtract(this.X), this.Z,
+                this.T.multiply(FieldElement.EDWARDS_2D));
+    }
+
+    /**
+     * Point addition.
+     *
+     * @return P + Q
+     */
+    ExtendedPoint add(ExtendedPoint Q) {
+        return this.add(Q.toProjectiveNiels()).toExtended();
+    }
+
+    /**
+     * Add a point in projective Niels coordinates to this point.
+     */
+    CompletedPoint add(ProjectiveNielsPoint Q) {
+        FieldElement YPlusX = this.Y.add(this.X);
+        FieldElement YMinusX = this.Y.subtract(this.X);
+        FieldElement PP = YPlusX.multiply(Q.YPlusX);
+        FieldElement MM = YMinusX.multiply(Q.YMinusX);
+        FieldElement TT2D = this.T.multiply(Q.T2D);
+        FieldElement ZZ = this.Z.multiply(Q.Z);
+        FieldElement ZZ2 = ZZ.add(ZZ);
+        return new CompletedPoint(PP.subtract(MM), PP.add(MM), ZZ2.add(TT2D), ZZ2.subtract(TT2D));
+    }
+
+    /**
+     * Add a point in affine Niels coordinates to this point.
+     */
+    CompletedPoint add(AffineNielsPoint q) {
+        FieldElement YPlusX = this.Y.add(this.X);
+        FieldElement YMinusX = this.Y.subtract(this.X);
+        FieldElement PP = YPlusX.multiply(q.yPlusx);
+        FieldElement MM = YMinusX.multiply(q.yMinusx);
+        FieldElement Txy2D = this.T.multiply(q.xy2D);
+        FieldElement Z2 = this.Z.add(this.Z);
+        return new CompletedPoint(PP.subtract(MM), PP.add(MM), Z2.add(Txy2D), Z2.subtract(Txy2D));
+    }
+
+    /**
+     * Point subtraction.
+     *
+     * @return P - Q
+     */
+    ExtendedPoint subtract(ExtendedPoint Q) {
+        return this.subtract(Q.toProjectiveNiels()).toExtended();
+    }
+
+    /**
+     * Subtract a point in projective Niels coordinates from this point.
+     */
+    CompletedPoint subtract(ProjectiveNielsPoint Q) {
+        FieldElement YPlusX = this.Y.add(this.X);
+        FieldElement YMinusX = this.Y.subtract(this.X);
+        FieldElement PM = YPlusX.multiply(Q.YMinusX);
+        FieldElement MP = YMinusX.multiply(Q.YPlusX);
+        FieldElement TT2D = this.T.multiply(Q.T2D);
+        FieldElement ZZ = this.Z.multiply(Q.Z);
+        FieldElement ZZ2 = ZZ.add(ZZ);
+        return new CompletedPoint(PM.subtract(MP), PM.add(MP), ZZ2.subtract(TT2D), ZZ2.add(TT2D));
+    }
+
+    /**
+     * Subtract a point in affine Niels coordinates from this point.
+     */
+    CompletedPoint subtract(AffineNielsPoint q) {
+        FieldElement YPlusX = this.Y.add(this.X);
+        FieldElement YMinusX = this.Y.subtract(this.X);
+        FieldElement PM = YPlusX.multiply(q.yMinusx);
+        FieldElement MP = YMinusX.multiply(q.yPlusx);
+        FieldElement Txy2D = this.T.multiply(q.xy2D);
+        FieldElement Z2 = this.Z.add(this.Z);
+        return new CompletedPoint(PM.subtract(MP), PM.add(MP), Z2.subtract(Txy2D), Z2.add(Txy2D));
+    }
+
+    /**
+     * Point doubling.
+     *
+     * @return [2]P
+     */
+    ExtendedPoint dbl() {
+        return this.toProjective().dbl().toExtended();
+    }
+
+    /**
+     * Point negation.
+     *
+     * @return -P
+     */
+    ExtendedPoint negate() {
+        return new ExtendedPoint(this.X.negate(), this.Y, this.Z, this.T.negate());
+    }
+
+    /**
+     * Multiply this point by the cofactor 8.
+     *
+     * @return [8]P
+     */
+    ExtendedPoint multiplyByCofactor() {
+        return this.toProjective().dbl().toProjective().dbl().toProjective().dbl().toExtended();
+    }
+
+    /**
+     * Determine whether this point is the identity, in variable time and
+     * without a field inversion.
+     */
+    boolean isIdentity() {
+        return this.X.isZero() == 1 && this.Y.ctEquals(this.Z) == 1;
+    }
+
+    /**
+     * Determine whether this point is equal to another, in variable time and
+     * without a field inversion.
+     */
+    boolean vartimeEquals(ExtendedPoint Q) {
+        return this.X.multiply(Q.Z).ctEquals(Q.X.multiply(this.Z)) == 1
+                && this.Y.multiply(Q.Z).ctEquals(Q.Y.multiply(this.Z)) == 1;
+    }
+}
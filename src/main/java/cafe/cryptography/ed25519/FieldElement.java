@@ -0,0 +1,724 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Arrays;
+
+/**
+ * An element of the field GF(2^255 - 19), in the ref10 representation.
+ *
+ * An element t, entries t[0]...t[9], represents the integer t[0] +
+ * 2^26 t[1] + 2^51 t[2] + 2^77 t[3] + 2^102 t[4] + ... + 2^230 t[9]. Bounds on
+ * each t[i] vary depending on context.
+ *
+ * curve25519-elisabeth does not expose its field arithmetic, so this module
+ * carries its own copy for the operations that need direct access to point
+ * coordinates, such as batched compression. Unless documented otherwise, all
+ * operations run in constant time.
+ */
+final class FieldElement {
+    static final FieldElement ZERO = new FieldElement(new int[10]);
+    static final FieldElement ONE = new FieldElement(new int[] { 1, 0, 0, 0, 0, 0, 0, 0, 0, 0 });
+
+    /**
+     * Edwards d value, equal to -121665/121666 mod p.
+     */
+    static final FieldElement EDWARDS_D = fromHex("a3785913ca4deb75abd841414d0a700098e879777940c78c73fe6f2bee6c0352");
+
+    /**
+     * Edwards 2*d value.
+     */
+    static final FieldElement EDWARDS_2D = EDWARDS_D.add(EDWARDS_D);
+
+    /**
+     * A square root of -1 mod p.
+     */
+    static final FieldElement SQRT_M1 = fromHex("b0a00e4a271beec478e42fad0618432fa7d7fb3d99004d2b0bdfc14f8024832b");
+
+    private final int[] t;
+
+    FieldElement(int[] t) {
+        if (t.length != 10) {
+            throw new IllegalArgumentException("Invalid field element representation");
+        }
+        this.t = t;
+    }
+
+    /**
+     * Copy the limbs of this FieldElement into an array.
+     */
+    void copyTo(int[] out, int offset) {
+        System.arraycopy(this.t, 0, out, offset, 10);
+    }
+
+    /**
+     * Construct a FieldElement from ten limbs stored in an array.
+     */
+    static FieldElement fromLimbs(int[] in, int offset) {
+        int[] t = new int[10];
+        System.arraycopy(in, offset, t, 0, 10);
+        return new FieldElement(t);
+    }
+
+    private static FieldElement fromHex(String hex) {
+        byte[] bytes = new byte[32];
+        for (int i = 0; i < 32; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return fromByteArray(bytes);
+    }
+
+    static int load_3(byte[] in, int offset) {
+        int result = in[offset++] & 0xff;
+        result |= (in[offset++] & 0xff) << 8;
+        result |= (in[offset] & 0xff) << 16;
+        return result;
+    }
+
+    static long load_4(byte[] in, int offset) {
+        int result = in[offset++] & 0xff;
+        result |= (in[offset++] & 0xff) << 8;
+        result |= (in[offset++] & 0xff) << 16;
+        result |= in[offset] << 24;
+        return ((long) result) & 0xffffffffL;
+    }
+
+    /**
+     * Load a FieldElement from the low 255 bits of a 256-bit input.
+     *
+     * WARNING: This function does not check that the input used the canonical
+     * representative. It masks the high bit, but it will happily decode
+     * 2^255 - 18 to 1. Applications that require a canonical encoding of every
+     * field element should decode, re-encode to the canonical encoding, and
+     * check that the input was canonical.
+     *
+     * @param in The 32-byte representation.
+     * @return The field element in its internal representation.
+     */
+    static FieldElement fromByteArray(byte[] in) {
+        long h0 = load_4(in, 0);
+        long h1 = load_3(in, 4) << 6;
+        long h2 = load_3(in, 7) << 5;
+        long h3 = load_3(in, 10) << 3;
+        long h4 = load_3(in, 13) << 2;
+        long h5 = load_4(in, 16);
+        long h6 = load_3(in, 20) << 7;
+        long h7 = load_3(in, 23) << 5;
+        long h8 = load_3(in, 26) << 4;
+        long h9 = (load_3(in, 29) & 0x7FFFFF) << 2;
+        long carry0;
+        long carry1;
+        long carry2;
+        long carry3;
+        long carry4;
+        long carry5;
+        long carry6;
+        long carry7;
+        long carry8;
+        long carry9;
+
+        // Remember: 2^255 congruent 19 modulo p
+        carry9 = (h9 + (long) (1 << 24)) >> 25;
+        h0 += carry9 * 19;
+        h9 -= carry9 << 25;
+        carry1 = (h1 + (long) (1 << 24)) >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        carry3 = (h3 + (long) (1 << 24)) >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        carry5 = (h5 + (long) (1 << 24)) >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+        carry7 = (h7 + (long) (1 << 24)) >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        carry2 = (h2 + (long) (1 << 25)) >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        carry6 = (h6 + (long) (1 << 25)) >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+        carry8 = (h8 + (long) (1 << 25)) >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+
+        int[] h = new int[10];
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+        return new FieldElement(h);
+    }
+
+    /**
+     * Encode a FieldElement in its 32-byte representation.
+     *
+     * @return the 32-byte encoding of this FieldElement.
+     */
+    byte[] toByteArray() {
+        byte[] s = new byte[32];
+        this.encodeTo(s, 0);
+        return s;
+    }
+
+    /**
+     * Write the 32-byte encoding of this FieldElement into an array.
+     *
+     * The encoding is always the canonical representative. We first compute
+     * q = floor(h / p), which is 0 or 1, using the fact that h >= p exactly
+     * when h + 19 >= 2^255, and then subtract q * p from h.
+     */
+    void encodeTo(byte[] s, int offset) {
+        int h0 = this.t[0];
+        int h1 = this.t[1];
+        int h2 = this.t[2];
+        int h3 = this.t[3];
+        int h4 = this.t[4];
+        int h5 = this.t[5];
+        int h6 = this.t[6];
+        int h7 = this.t[7];
+        int h8 = this.t[8];
+        int h9 = this.t[9];
+        int q;
+        int carry0;
+        int carry1;
+        int carry2;
+        int carry3;
+        int carry4;
+        int carry5;
+        int carry6;
+        int carry7;
+        int carry8;
+        int carry9;
+
+        q = (19 * h9 + (1 << 24)) >> 25;
+        q = (h0 + q) >> 26;
+        q = (h1 + q) >> 25;
+        q = (h2 + q) >> 26;
+        q = (h3 + q) >> 25;
+        q = (h4 + q) >> 26;
+        q = (h5 + q) >> 25;
+        q = (h6 + q) >> 26;
+        q = (h7 + q) >> 25;
+        q = (h8 + q) >> 26;
+        q = (h9 + q) >> 25;
+
+        // r = h - q * p = h - 2^255 * q + 19 * q
+        // First add 19 * q then discard the bit 255
+        h0 += 19 * q;
+
+        carry0 = h0 >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        carry1 = h1 >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        carry2 = h2 >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        carry3 = h3 >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        carry4 = h4 >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        carry5 = h5 >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+        carry6 = h6 >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+        carry7 = h7 >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+        carry8 = h8 >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+        carry9 = h9 >> 25;
+        h9 -= carry9 << 25;
+
+        s[offset] = (byte) h0;
+        s[offset + 1] = (byte) (h0 >> 8);
+        s[offset + 2] = (byte) (h0 >> 16);
+        s[offset + 3] = (byte) ((h0 >> 24) | (h1 << 2));
+        s[offset + 4] = (byte) (h1 >> 6);
+        s[offset + 5] = (byte) (h1 >> 14);
+        s[offset + 6] = (byte) ((h1 >> 22) | (h2 << 3));
+        s[offset + 7] = (byte) (h2 >> 5);
+        s[offset + 8] = (byte) (h2 >> 13);
+        s[offset + 9] = (byte) ((h2 >> 21) | (h3 << 5));
+        s[offset + 10] = (byte) (h3 >> 3);
+        s[offset + 11] = (byte) (h3 >> 11);
+        s[offset + 12] = (byte) ((h3 >> 19) | (h4 << 6));
+        s[offset + 13] = (byte) (h4 >> 2);
+        s[offset + 14] = (byte) (h4 >> 10);
+        s[offset + 15] = (byte) (h4 >> 18);
+        s[offset + 16] = (byte) h5;
+        s[offset + 17] = (byte) (h5 >> 8);
+        s[offset + 18] = (byte) (h5 >> 16);
+        s[offset + 19] = (byte) ((h5 >> 24) | (h6 << 1));
+        s[offset + 20] = (byte) (h6 >> 7);
+        s[offset + 21] = (byte) (h6 >> 15);
+        s[offset + 22] = (byte) ((h6 >> 23) | (h7 << 3));
+        s[offset + 23] = (byte) (h7 >> 5);
+        s[offset + 24] = (byte) (h7 >> 13);
+        s[offset + 25] = (byte) ((h7 >> 21) | (h8 << 4));
+        s[offset + 26] = (byte) (h8 >> 4);
+        s[offset + 27] = (byte) (h8 >> 12);
+        s[offset + 28] = (byte) ((h8 >> 20) | (h9 << 6));
+        s[offset + 29] = (byte) (h9 >> 2);
+        s[offset + 30] = (byte) (h9 >> 10);
+        s[offset + 31] = (byte) (h9 >> 18);
+    }
+
+    /**
+     * Constant-time equality check.
+     *
+     * @return 1 if this and val are equal, 0 otherwise.
+     */
+    int ctEquals(FieldElement val) {
+        byte[] s = this.toByteArray();
+        byte[] v = val.toByteArray();
+        int result = 0;
+        for (int i = 0; i < 32; i++) {
+            result |= s[i] ^ v[i];
+        }
+        return ((result & 0xff) - 1) >>> 31;
+    }
+
+    /**
+     * Determine whether this FieldElement is zero.
+     *
+     * @return 1 if this FieldElement is zero, 0 otherwise.
+     */
+    int isZero() {
+        return this.ctEquals(ZERO);
+    }
+
+    /**
+     * Determine whether this FieldElement is negative.
+     *
+     * As in RFC 8032, a FieldElement is negative if the least significant bit
+     * of its encoding is 1.
+     *
+     * @return 1 if this FieldElement is negative, 0 otherwise.
+     */
+    int isNegative() {
+        byte[] s = this.toByteArray();
+        return s[0] & 1;
+    }
+
+    /**
+     * h = f + g
+     */
+    FieldElement add(FieldElement val) {
+        int[] g = val.t;
+        int[] h = new int[10];
+        for (int i = 0; i < 10; i++) {
+            h[i] = this.t[i] + g[i];
+        }
+        return new FieldElement(h);
+    }
+
+    /**
+     * h = f - g
+     */
+    FieldElement subtract(FieldElement val) {
+        int[] g = val.t;
+        int[] h = new int[10];
+        for (int i = 0; i < 10; i++) {
+            h[i] = this.t[i] - g[i];
+        }
+        return new FieldElement(h);
+    }
+
+    /**
+     * h = -f
+     */
+    FieldElement negate() {
+        int[] h = new int[10];
+        for (int i = 0; i < 10; i++) {
+            h[i] = -this.t[i];
+        }
+        return new FieldElement(h);
+    }
+
+    /**
+     * h = f * g
+     *
+     * The odd limbs are 25 bits, so the products of two odd limbs are
+     * doubled, and products that wrap past 2^255 are multiplied by 19.
+     */
+    FieldElement multiply(FieldElement val) {
+        int[] f = this.t;
+        int[] g = val.t;
+        long f0 = f[0];
+        long f1 = f[1];
+        long f2 = f[2];
+        long f3 = f[3];
+        long f4 = f[4];
+        long f5 = f[5];
+        long f6 = f[6];
+        long f7 = f[7];
+        long f8 = f[8];
+        long f9 = f[9];
+        long g0 = g[0];
+        long g1 = g[1];
+        long g2 = g[2];
+        long g3 = g[3];
+        long g4 = g[4];
+        long g5 = g[5];
+        long g6 = g[6];
+        long g7 = g[7];
+        long g8 = g[8];
+        long g9 = g[9];
+        long g1_19 = 19 * g1;
+        long g2_19 = 19 * g2;
+        long g3_19 = 19 * g3;
+        long g4_19 = 19 * g4;
+        long g5_19 = 19 * g5;
+        long g6_19 = 19 * g6;
+        long g7_19 = 19 * g7;
+        long g8_19 = 19 * g8;
+        long g9_19 = 19 * g9;
+        long f1_2 = 2 * f1;
+        long f3_2 = 2 * f3;
+        long f5_2 = 2 * f5;
+        long f7_2 = 2 * f7;
+        long f9_2 = 2 * f9;
+        long h0 = f0 * g0 + f1_2 * g9_19 + f2 * g8_19 + f3_2 * g7_19 + f4 * g6_19 + f5_2 * g5_19 + f6 * g4_19
+                + f7_2 * g3_19 + f8 * g2_19 + f9_2 * g1_19;
+        long h1 = f0 * g1 + f1 * g0 + f2 * g9_19 + f3 * g8_19 + f4 * g7_19 + f5 * g6_19 + f6 * g5_19 + f7 * g4_19
+                + f8 * g3_19 + f9 * g2_19;
+        long h2 = f0 * g2 + f1_2 * g1 + f2 * g0 + f3_2 * g9_19 + f4 * g8_19 + f5_2 * g7_19 + f6 * g6_19 + f7_2 * g5_19
+                + f8 * g4_19 + f9_2 * g3_19;
+        long h3 = f0 * g3 + f1 * g2 + f2 * g1 + f3 * g0 + f4 * g9_19 + f5 * g8_19 + f6 * g7_19 + f7 * g6_19
+                + f8 * g5_19 + f9 * g4_19;
+        long h4 = f0 * g4 + f1_2 * g3 + f2 * g2 + f3_2 * g1 + f4 * g0 + f5_2 * g9_19 + f6 * g8_19 + f7_2 * g7_19
+                + f8 * g6_19 + f9_2 * g5_19;
+        long h5 = f0 * g5 + f1 * g4 + f2 * g3 + f3 * g2 + f4 * g1 + f5 * g0 + f6 * g9_19 + f7 * g8_19 + f8 * g7_19
+                + f9 * g6_19;
+        long h6 = f0 * g6 + f1_2 * g5 + f2 * g4 + f3_2 * g3 + f4 * g2 + f5_2 * g1 + f6 * g0 + f7_2 * g9_19 + f8 * g8_19
+                + f9_2 * g7_19;
+        long h7 = f0 * g7 + f1 * g6 + f2 * g5 + f3 * g4 + f4 * g3 + f5 * g2 + f6 * g1 + f7 * g0 + f8 * g9_19
+                + f9 * g8_19;
+        long h8 = f0 * g8 + f1_2 * g7 + f2 * g6 + f3_2 * g5 + f4 * g4 + f5_2 * g3 + f6 * g2 + f7_2 * g1 + f8 * g0
+                + f9_2 * g9_19;
+        long h9 = f0 * g9 + f1 * g8 + f2 * g7 + f3 * g6 + f4 * g5 + f5 * g4 + f6 * g3 + f7 * g2 + f8 * g1 + f9 * g0;
+        return reduce(h0, h1, h2, h3, h4, h5, h6, h7, h8, h9);
+    }
+
+    /**
+     * h = f * f
+     */
+    FieldElement square() {
+        int[] f = this.t;
+        long f0 = f[0];
+        long f1 = f[1];
+        long f2 = f[2];
+        long f3 = f[3];
+        long f4 = f[4];
+        long f5 = f[5];
+        long f6 = f[6];
+        long f7 = f[7];
+        long f8 = f[8];
+        long f9 = f[9];
+        long h0 = f0 * f0 + 76 * f1 * f9 + 38 * f2 * f8 + 76 * f3 * f7 + 38 * f4 * f6 + 38 * f5 * f5;
+        long h1 = 2 * f0 * f1 + 38 * f2 * f9 + 38 * f3 * f8 + 38 * f4 * f7 + 38 * f5 * f6;
+        long h2 = 2 * f0 * f2 + 2 * f1 * f1 + 76 * f3 * f9 + 38 * f4 * f8 + 76 * f5 * f7 + 19 * f6 * f6;
+        long h3 = 2 * f0 * f3 + 2 * f1 * f2 + 38 * f4 * f9 + 38 * f5 * f8 + 38 * f6 * f7;
+        long h4 = 2 * f0 * f4 + 4 * f1 * f3 + f2 * f2 + 76 * f5 * f9 + 38 * f6 * f8 + 38 * f7 * f7;
+        long h5 = 2 * f0 * f5 + 2 * f1 * f4 + 2 * f2 * f3 + 38 * f6 * f9 + 38 * f7 * f8;
+        long h6 = 2 * f0 * f6 + 4 * f1 * f5 + 2 * f2 * f4 + 2 * f3 * f3 + 76 * f7 * f9 + 19 * f8 * f8;
+        long h7 = 2 * f0 * f7 + 2 * f1 * f6 + 2 * f2 * f5 + 2 * f3 * f4 + 38 * f8 * f9;
+        long h8 = 2 * f0 * f8 + 4 * f1 * f7 + 2 * f2 * f6 + 4 * f3 * f5 + f4 * f4 + 38 * f9 * f9;
+        long h9 = 2 * f0 * f9 + 2 * f1 * f8 + 2 * f2 * f7 + 2 * f3 * f6 + 2 * f4 * f5;
+        return reduce(h0, h1, h2, h3, h4, h5, h6, h7, h8, h9);
+    }
+
+    /**
+     * h = 2 * f * f
+     */
+    FieldElement squareAndDouble() {
+        int[] f = this.t;
+        long f0 = f[0];
+        long f1 = f[1];
+        long f2 = f[2];
+        long f3 = f[3];
+        long f4 = f[4];
+        long f5 = f[5];
+        long f6 = f[6];
+        long f7 = f[7];
+        long f8 = f[8];
+        long f9 = f[9];
+        long h0 = f0 * f0 + 76 * f1 * f9 + 38 * f2 * f8 + 76 * f3 * f7 + 38 * f4 * f6 + 38 * f5 * f5;
+        long h1 = 2 * f0 * f1 + 38 * f2 * f9 + 38 * f3 * f8 + 38 * f4 * f7 + 38 * f5 * f6;
+        long h2 = 2 * f0 * f2 + 2 * f1 * f1 + 76 * f3 * f9 + 38 * f4 * f8 + 76 * f5 * f7 + 19 * f6 * f6;
+        long h3 = 2 * f0 * f3 + 2 * f1 * f2 + 38 * f4 * f9 + 38 * f5 * f8 + 38 * f6 * f7;
+        long h4 = 2 * f0 * f4 + 4 * f1 * f3 + f2 * f2 + 76 * f5 * f9 + 38 * f6 * f8 + 38 * f7 * f7;
+        long h5 = 2 * f0 * f5 + 2 * f1 * f4 + 2 * f2 * f3 + 38 * f6 * f9 + 38 * f7 * f8;
+        long h6 = 2 * f0 * f6 + 4 * f1 * f5 + 2 * f2 * f4 + 2 * f3 * f3 + 76 * f7 * f9 + 19 * f8 * f8;
+        long h7 = 2 * f0 * f7 + 2 * f1 * f6 + 2 * f2 * f5 + 2 * f3 * f4 + 38 * f8 * f9;
+        long h8 = 2 * f0 * f8 + 4 * f1 * f7 + 2 * f2 * f6 + 4 * f3 * f5 + f4 * f4 + 38 * f9 * f9;
+        long h9 = 2 * f0 * f9 + 2 * f1 * f8 + 2 * f2 * f7 + 2 * f3 * f6 + 2 * f4 * f5;
+        return reduce(2 * h0, 2 * h1, 2 * h2, 2 * h3, 2 * h4, 2 * h5, 2 * h6, 2 * h7, 2 * h8, 2 * h9);
+    }
+
+    /**
+     * Carry the limbs of a product back into the ref10 bounds.
+     */
+    private static FieldElement reduce(long h0, long h1, long h2, long h3, long h4, long h5, long h6, long h7,
+            long h8, long h9) {
+        long carry0;
+        long carry1;
+        long carry2;
+        long carry3;
+        long carry4;
+        long carry5;
+        long carry6;
+        long carry7;
+        long carry8;
+        long carry9;
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+
+        carry1 = (h1 + (long) (1 << 24)) >> 25;
+        h2 += carry1;
+        h1 -= carry1 << 25;
+        carry5 = (h5 + (long) (1 << 24)) >> 25;
+        h6 += carry5;
+        h5 -= carry5 << 25;
+
+        carry2 = (h2 + (long) (1 << 25)) >> 26;
+        h3 += carry2;
+        h2 -= carry2 << 26;
+        carry6 = (h6 + (long) (1 << 25)) >> 26;
+        h7 += carry6;
+        h6 -= carry6 << 26;
+
+        carry3 = (h3 + (long) (1 << 24)) >> 25;
+        h4 += carry3;
+        h3 -= carry3 << 25;
+        carry7 = (h7 + (long) (1 << 24)) >> 25;
+        h8 += carry7;
+        h7 -= carry7 << 25;
+
+        carry4 = (h4 + (long) (1 << 25)) >> 26;
+        h5 += carry4;
+        h4 -= carry4 << 26;
+        carry8 = (h8 + (long) (1 << 25)) >> 26;
+        h9 += carry8;
+        h8 -= carry8 << 26;
+
+        carry9 = (h9 + (long) (1 << 24)) >> 25;
+        h0 += carry9 * 19;
+        h9 -= carry9 << 25;
+
+        carry0 = (h0 + (long) (1 << 25)) >> 26;
+        h1 += carry0;
+        h0 -= carry0 << 26;
+
+        int[] h = new int[10];
+        h[0] = (int) h0;
+        h[1] = (int) h1;
+        h[2] = (int) h2;
+        h[3] = (int) h3;
+        h[4] = (int) h4;
+        h[5] = (int) h5;
+        h[6] = (int) h6;
+        h[7] = (int) h7;
+        h[8] = (int) h8;
+        h[9] = (int) h9;
+        return new FieldElement(h);
+    }
+
+    /**
+     * Compute this^(2^n).
+     */
+    private FieldElement squareTimes(int n) {
+        FieldElement t = this;
+        for (int i = 0; i < n; i++) {
+            t = t.square();
+        }
+        return t;
+    }
+
+    /**
+     * Invert this field element.
+     *
+     * The inverse is found via Fermat's little theorem: a^p congruent a mod p
+     * and therefore a^(p-2) congruent a^-1 mod p. The inverse of zero is zero.
+     *
+     * @return The inverse of this field element.
+     */
+    FieldElement invert() {
+        FieldElement t0, t1, t2, t3;
+
+        // 2 == 2 * 1
+        t0 = this.square();
+        // 8 == 2 * 4
+        t1 = t0.squareTimes(2);
+        // 9 == 8 + 1
+        t1 = this.multiply(t1);
+        // 11 == 9 + 2
+        t0 = t0.multiply(t1);
+        // 22 == 2 * 11
+        t2 = t0.square();
+        // 2^5 - 2^0 == 22 + 9
+        t1 = t1.multiply(t2);
+        // 2^10 - 2^5
+        t2 = t1.squareTimes(5);
+        // 2^10 - 2^0
+        t1 = t2.multiply(t1);
+        // 2^20 - 2^10
+        t2 = t1.squareTimes(10);
+        // 2^20 - 2^0
+        t2 = t2.multiply(t1);
+        // 2^40 - 2^20
+        t3 = t2.squareTimes(20);
+        // 2^40 - 2^0
+        t2 = t3.multiply(t2);
+        // 2^50 - 2^10
+        t2 = t2.squareTimes(10);
+        // 2^50 - 2^0
+        t1 = t2.multiply(t1);
+        // 2^100 - 2^50
+        t2 = t1.squareTimes(50);
+        // 2^100 - 2^0
+        t2 = t2.multiply(t1);
+        // 2^200 - 2^100
+        t3 = t2.squareTimes(100);
+        // 2^200 - 2^0
+        t2 = t3.multiply(t2);
+        // 2^250 - 2^50
+        t2 = t2.squareTimes(50);
+        // 2^250 - 2^0
+        t1 = t2.multiply(t1);
+        // 2^255 - 2^5
+        t1 = t1.squareTimes(5);
+        // 2^255 - 21
+        return t1.multiply(t0);
+    }
+
+    /**
+     * Raises this field element to the power (p - 5) / 8 = 2^252 - 3.
+     *
+     * @return this^((p - 5) / 8)
+     */
+    FieldElement powP58() {
+        FieldElement t0, t1, t2;
+
+        // 2 == 2 * 1
+        t0 = this.square();
+        // 8 == 2 * 4
+        t1 = t0.squareTimes(2);
+        // z9 = z1 * z8
+        t1 = this.multiply(t1);
+        // 11 == 9 + 2
+        t0 = t0.multiply(t1);
+        // 22 == 2 * 11
+        t0 = t0.square();
+        // 2^5 - 2^0 == 22 + 9
+        t0 = t1.multiply(t0);
+        // 2^10 - 2^5
+        t1 = t0.squareTimes(5);
+        // 2^10 - 2^0
+        t0 = t1.multiply(t0);
+        // 2^20 - 2^10
+        t1 = t0.squareTimes(10);
+        // 2^20 - 2^0
+        t1 = t1.multiply(t0);
+        // 2^40 - 2^20
+        t2 = t1.squareTimes(20);
+        // 2^40 - 2^0
+        t1 = t2.multiply(t1);
+        // 2^50 - 2^10
+        t1 = t1.squareTimes(10);
+        // 2^50 - 2^0
+        t0 = t1.multiply(t0);
+        // 2^100 - 2^50
+        t1 = t0.squareTimes(50);
+        // 2^100 - 2^0
+        t1 = t1.multiply(t0);
+        // 2^200 - 2^100
+        t2 = t1.squareTimes(100);
+        // 2^200 - 2^0
+        t1 = t2.multiply(t1);
+        // 2^250 - 2^50
+        t1 = t1.squareTimes(50);
+        // 2^250 - 2^0
+        t0 = t1.multiply(t0);
+        // 2^252 - 2^2
+        t0 = t0.squareTimes(2);
+        // 2^252 - 3
+        return this.multiply(t0);
+    }
+
+    /**
+     * Invert every element of an array with a single field inversion, using
+     * Montgomery's trick. Every input MUST be non-zero.
+     *
+     * @return the inverses, in the same order as the inputs.
+     */
+    static FieldElement[] batchInvert(FieldElement[] inputs) {
+        int n = inputs.length;
+        FieldElement[] inverses = new FieldElement[n];
+        if (n == 0) {
+            return inverses;
+        }
+
+        // Keep a running product, storing the product of the preceding inputs
+        // in the output slot of each input.
+        FieldElement acc = ONE;
+        for (int i = 0; i < n; i++) {
+            inverses[i] = acc;
+            acc = acc.multiply(inputs[i]);
+        }
+
+        // Invert the product of all inputs, then peel off one input at a time.
+        acc = acc.invert();
+        for (int i = n - 1; i >= 0; i--) {
+            inverses[i] = inverses[i].multiply(acc);
+            acc = acc.multiply(inputs[i]);
+        }
+        return inverses;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FieldElement)) {
+            return false;
+        }
+
+        FieldElement other = (FieldElement) obj;
+        return this.ctEquals(other) == 1;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.toByteArray());
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cafe.cryptography.curve25519.Scalar;
+
+/**
+ * A precomputed table of multiples of a fixed point, for constant-time scalar
+ * multiplication without doublings.
+ *
+ * The scalar is written in signed radix 2^w form, and table i contains the
+ * multiples [1..2^(w-1)] * 2^(w*i) * P in affine Niels coordinates. Each digit
+ * is looked up by scanning its whole table, so the memory access pattern does
+ * not depend on the scalar.
+ *
+ * The product is returned as an {@link ExtendedPoint}, so that callers can
+ * share the field inversion when compressing many products.
+ */
+final class FixedBaseTable {
+    /**
+     * The digit width used for the default basepoint table.
+     */
+    static final int BASEPOINT_WIDTH = 4;
+
+    /**
+     * The compressed Ed25519 basepoint.
+     */
+    private static final byte[] BASEPOINT_BYTES = new byte[] { (byte) 0x58, (byte) 0x66, (byte) 0x66, (byte) 0x66,
+            (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66,
+            (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66,
+            (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66,
+            (byte) 0x66, (byte) 0x66, (byte) 0x66, (byte) 0x66, };
+
+    /**
+     * The Ed25519 basepoint, in extended coordinates.
+     */
+    static final ExtendedPoint BASEPOINT = ExtendedPoint.decompress(BASEPOINT_BYTES);
+
+    /**
+     * The resource containing the serialized default basepoint table, so that
+     * short-lived processes do not spend their time building it.
+     */
+    static final String BASEPOINT_RESOURCE = "basepoint-table-" + BASEPOINT_WIDTH + ".bin";
+
+    /**
+     * Holder for the lazily-loaded basepoint table.
+     */
+    private static class Basepoint {
+        static final FixedBaseTable TABLE = loadBasepoint();
+    }
+
+    /**
+     * The number of limbs in each table entry: three field elements in affine
+     * Niels coordinates.
+     */
+    private static final int ENTRY_LIMBS = 30;
+
+    /**
+     * The number of bytes in each serialized table entry.
+     */
+    private static final int ENTRY_BYTES = 96;
+
+    final int width;
+
+    /**
+     * The tables of multiples, each stored as the consecutive limbs of its
+     * entries so that a constant-time scan does not chase pointers.
+     */
+    private final int[][] tables;
+
+    /**
+     * Precompute the table for the given point.
+     *
+     * @param P the fixed point.
+     * @param width the digit width, between 4 and 8 inclusive.
+     */
+    FixedBaseTable(ExtendedPoint P, int width) {
+        if (width < 4 || width > 8) {
+            throw new IllegalArgumentException("window width must be between 4 and 8");
+        }
+
+        int count = Pippenger.radix2wDigitsCount(width);
+        int size = 1 << (width - 1);
+        ExtendedPoint[] multiples = new ExtendedPoint[count * size];
+        ExtendedPoint base = P;
+        for (int i = 0; i < count; i++) {
+            multiples[i * size] = base;
+            for (int j = 1; j < size; j++) {
+                multiples[i * size + j] = multiples[i * size + j - 1].add(base);
+            }
+            // 2^(w-1) * 2^(w*i) * P doubles to 2^(w*(i+1)) * P
+            base = multiples[i * size + size - 1].dbl();
+        }
+
+        // Normalize every multiple to affine coordinates with one inversion.
+        FieldElement[] Z = new FieldElement[multiples.length];
+        for (int k = 0; k < multiples.length; k++) {
+            Z[k] = multiples[k].Z;
+        }
+        FieldElement[] Zinv = FieldElement.batchInvert(Z);
+
+        this.width = width;
+        this.tables = new int[count][size * ENTRY_LIMBS];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < size; j++) {
+                AffineNielsPoint entry = AffineNielsPoint.fromExtended(multiples[i * size + j], Zinv[i * size + j]);
+                int offset = j * ENTRY_LIMBS;
+                entry.yPlusx.copyTo(this.tables[i], offset);
+                entry.yMinusx.copyTo(this.tables[i], offset + 10);
+                entry.xy2D.copyTo(this.tables[i], offset + 20);
+            }
+        }
+    }
+
+    private FixedBaseTable(int width, int[][] tables) {
+        this.width = width;
+        this.tables = tables;
+    }
+
+    /**
+     * Decode a table serialized with {@link #toByteArray()}.
+     *
+     * @param input the encoded table.
+     * @param width the digit width of the table.
+     * @return the table.
+     * @throws IllegalArgumentException if the input has the wrong length.
+     */
+    static FixedBaseTable fromByteArray(byte[] input, int width) {
+        if (width < 4 || width > 8) {
+            throw new IllegalArgumentException("window width must be between 4 and 8");
+        }
+        if (input.length != size(width) * ENTRY_BYTES) {
+            throw new IllegalArgumentException("Invalid table encoding");
+        }
+
+        int count = Pippenger.radix2wDigitsCount(width);
+        int size = 1 << (width - 1);
+        int[][] tables = new int[count][size * ENTRY_LIMBS];
+        byte[] encoding = new byte[32];
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            for (int k = 0; k < tables[i].length; k += 10) {
+                System.arraycopy(input, offset, encoding, 0, 32);
+                FieldElement.fromByteArray(encoding).copyTo(tables[i], k);
+                offset += 32;
+            }
+        }
+        return new FixedBaseTable(width, tables);
+    }
+
+    /**
+     * Encode this table as the canonical encodings of the y+x, y-x and 2dxy
+     * coordinates of each entry, in order.
+     *
+     * @return the encoded table.
+     */
+    byte[] toByteArray() {
+        byte[] out = new byte[this.tables.length * this.tables[0].length / 10 * 32];
+        int offset = 0;
+        for (int[] table : this.tables) {
+            for (int k = 0; k < table.length; k += 10) {
+                FieldElement.fromLimbs(table, k).encodeTo(out, offset);
+                offset += 32;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Load the default basepoint table from its resource, falling back to
+     * computing it if the resource is unavailable.
+     */
+    private static FixedBaseTable loadBasepoint() {
+        InputStream in = FixedBaseTable.class.getResourceAsStream(BASEPOINT_RESOURCE);
+        if (in != null) {
+            try {
+                try {
+                    byte[] encoded = new byte[size(BASEPOINT_WIDTH) * ENTRY_BYTES];
+                    int read = 0;
+                    while (read < encoded.length) {
+                        int n = in.read(encoded, read, encoded.length - read);
+                        if (n < 0) {
+                            break;
+                        }
+                        read += n;
+                    }
+                    if (read == encoded.length && in.read() < 0) {
+                        return fromByteArray(encoded, BASEPOINT_WIDTH);
+                    }
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                // Fall through and compute the table.
+            }
+        }
+        return new FixedBaseTable(BASEPOINT, BASEPOINT_WIDTH);
+    }
+
+    /**
+     * Returns the default table for the Ed25519 basepoint, constructing it if
+     * needed.
+     */
+    static FixedBaseTable basepoint() {
+        return Basepoint.TABLE;
+    }
+
+    /**
+     * Returns the number of precomputed points in a table of the given width.
+     */
+    static int size(int width) {
+        return Pippenger.radix2wDigitsCount(width) << (width - 1);
+    }
+
+    /**
+     * Compute [s]P in constant time.
+     *
+     * @param s the scalar; it must be less than 2^255.
+     * @return the product.
+     */
+    ExtendedPoint multiply(Scalar s) {
+        byte[] digits = Pippenger.asRadix2w(s, this.width);
+        ExtendedPoint Q = ExtendedPoint.IDENTITY;
+        for (int i = 0; i < digits.length; i++) {
+            Q = Q.add(this.select(i, digits[i])).toExtended();
+        }
+        return Q;
+    }
+
+    /**
+     * Compute [s]P in variable time, reading only the entries selected by the
+     * digits of s. This MUST only be used with public scalars.
+     *
+     * @param s the scalar; it must be less than 2^255.
+     * @return the product.
+     */
+    ExtendedPoint vartimeMultiply(Scalar s) {
+        byte[] digits = Pippenger.asRadix2w(s, this.width);
+        ExtendedPoint Q = ExtendedPoint.IDENTITY;
+        for (int i = 0; i < digits.length; i++) {
+            int digit = digits[i];
+            if (digit > 0) {
+                Q = Q.add(this.entry(i, digit - 1)).toExtended();
+            } else if (digit < 0) {
+                Q = Q.subtract(this.entry(i, -digit - 1)).toExtended();
+            }
+        }
+        return Q;
+    }
+
+    /**
+     * Variable-time lookup of [j + 1] * 2^(w*i) * P.
+     */
+    private AffineNielsPoint entry(int i, int j) {
+        int[] table = this.tables[i];
+        int offset = j * ENTRY_LIMBS;
+        return new AffineNielsPoint(FieldElement.fromLimbs(table, offset), FieldElement.fromLimbs(table, offset + 10),
+                FieldElement.fromLimbs(table, offset + 20));
+    }
+
+    /**
+     * Constant-time lookup of [digit] * 2^(w*i) * P.
+     */
+    private AffineNielsPoint select(int i, int digit) {
+        // Compute the absolute value of the digit without branching.
+        int digitNeg = digit >>> 31;
+        int digitAbs = digit - (((-digitNeg) & digit) << 1);
+
+        // Start from the identity (1, 1, 0), and conditionally copy in each
+        // entry, so that every entry is read regardless of the digit.
+        int[] table = this.tables[i];
+        int[] t = new int[ENTRY_LIMBS];
+        t[0] = 1;
+        t[10] = 1;
+        for (int j = 0; j < table.length; j += ENTRY_LIMBS) {
+            int mask = -ctEqual(digitAbs, j / ENTRY_LIMBS + 1);
+            for (int k = 0; k < ENTRY_LIMBS; k++) {
+                t[k] ^= (t[k] ^ table[j + k]) & mask;
+            }
+        }
+
+        // Negate the point if the digit was negative, by swapping y+x with
+        // y-x and negating 2dxy.
+        int mask = -digitNeg;
+        for (int k = 0; k < 10; k++) {
+            int swap = (t[k] ^ t[k + 10]) & mask;
+            t[k] ^= swap;
+            t[k + 10] ^= swap;
+            t[k + 20] ^= (t[k + 20] ^ -t[k + 20]) & mask;
+        }
+
+        return new AffineNielsPoint(FieldElement.fromLimbs(t, 0), FieldElement.fromLimbs(t, 10),
+                FieldElement.fromLimbs(t, 20));
+    }
+
+    /**
+     * Returns 1 if b == c, 0 otherwise, for b and c in [0, 2^8].
+     */
+    private static int ctEqual(int b, int c) {
+        return ((b ^ c) - 1) >>> 31;
+    }
+}
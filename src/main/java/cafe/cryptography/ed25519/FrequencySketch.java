@@ -0,0 +1,168 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A count-min sketch that estimates how often items have been seen recently.
+ *
+ * Each item increments one counter in each of four rows, and its estimate is
+ * the smallest of those counters; collisions can only make an estimate too
+ * high. The rows are indexed by independent 32-bit parts of a SipHash-2-4
+ * output under random per-instance keys, so that collisions cannot be found
+ * without knowing the keys. After a fixed number of increments every counter
+ * is halved, so that items which were popular in the past fade away.
+ *
+ * Counter updates are not synchronized. Concurrent increments may be lost,
+ * which only makes estimates slightly low.
+ */
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+
+    private final long k0;
+    private final long k1;
+    private final long k2;
+    private final long k3;
+    private final int[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private final AtomicInteger additions;
+
+    /**
+     * Construct an empty sketch.
+     *
+     * @param width the number of counters in each row, rounded up to a power
+     *              of two.
+     * @param sampleSize the number of increments after which all counters are
+     *                   halved.
+     */
+    FrequencySketch(int width, int sampleSize) {
+        if (width < 1 || width > (1 << 24)) {
+            throw new IllegalArgumentException("width must be between 1 and 2^24");
+        }
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException("sample size must be positive");
+        }
+        SecureRandom random = new SecureRandom();
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+        this.k2 = random.nextLong();
+        this.k3 = random.nextLong();
+        int rowWidth = Math.max(1, Integer.highestOneBit(width - 1) << 1);
+        this.counters = new int[DEPTH * rowWidth];
+        this.mask = rowWidth - 1;
+        this.sampleSize = sampleSize;
+        this.additions = new AtomicInteger();
+    }
+
+    /**
+     * Record an occurrence of an item.
+     *
+     * @param item the encoding of the item.
+     * @return the estimated number of recent occurrences, including this one.
+     */
+    int incrementAndEstimate(byte[] item) {
+        int[] indices = this.indices(item);
+        int estimate = Integer.MAX_VALUE;
+        for (int index : indices) {
+            int count = this.counters[index];
+            if (count < Integer.MAX_VALUE) {
+                count++;
+                this.counters[index] = count;
+            }
+            estimate = Math.min(estimate, count);
+        }
+
+        if (this.additions.incrementAndGet() == this.sampleSize) {
+            this.age();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the estimated number of recent occurrences of an item.
+     */
+    int estimate(byte[] item) {
+        int estimate = Integer.MAX_VALUE;
+        for (int index : this.indices(item)) {
+            estimate = Math.min(estimate, this.counters[index]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Halve every counter.
+     */
+    private synchronized void age() {
+        for (int i = 0; i < this.counters.length; i++) {
+            this.counters[i] >>>= 1;
+        }
+        this.additions.set(0);
+    }
+
+    /**
+     * Compute the counter index of an item in each row, from two 64-bit
+     * SipHash outputs under independent keys.
+     */
+    private int[] indices(byte[] item) {
+        long h0 = sipHash(this.k0, this.k1, item);
+        long h1 = sipHash(this.k2, this.k3, item);
+        int rowWidth = this.mask + 1;
+        return new int[] { (int) h0 & this.mask, rowWidth + ((int) (h0 >>> 32) & this.mask),
+                2 * rowWidth + ((int) h1 & this.mask), 3 * rowWidth + ((int) (h1 >>> 32) & this.mask) };
+    }
+
+    /**
+     * SipHash-2-4 of the input under the key (k0, k1).
+     */
+    static long sipHash(long k0, long k1, byte[] in) {
+        long[] v = new long[] { k0 ^ 0x736f6d6570736575L, k1 ^ 0x646f72616e646f6dL, k0 ^ 0x6c7967656e657261L,
+                k1 ^ 0x7465646279746573L };
+
+        int end = in.length & ~7;
+        for (int i = 0; i < end; i += 8) {
+            compress(v, littleEndian(in, i, 8));
+        }
+        compress(v, ((long) in.length << 56) | littleEndian(in, end, in.length - end));
+
+        v[2] ^= 0xff;
+        for (int r = 0; r < 4; r++) {
+            sipRound(v);
+        }
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+    private static void compress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    private static void sipRound(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+
+    private static long littleEndian(byte[] in, int offset, int length) {
+        long m = 0;
+        for (int i = 0; i < length; i++) {
+            m |= (in[offset + i] & 0xffL) << (8 * i);
+        }
+        return m;
+    }
+}
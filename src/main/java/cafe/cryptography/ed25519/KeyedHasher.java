@@ -0,0 +1,37 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+
+/**
+ * Creates hash map keys for untrusted byte arrays.
+ *
+ * The hash codes of the keys are a SipHash-2-4 of the bytes under a random
+ * per-instance key, so that inputs which collide in one hash table bin cannot
+ * be found without knowing the key. Keys from different hashers must not be
+ * mixed in the same map.
+ */
+final class KeyedHasher {
+    private final long k0;
+    private final long k1;
+
+    KeyedHasher() {
+        SecureRandom random = new SecureRandom();
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+    }
+
+    /**
+     * Wrap a byte array as a hash map key. The array is not copied, so the
+     * caller MUST NOT modify it afterwards.
+     */
+    ByteArrayKey key(byte[] bytes) {
+        long h = FrequencySketch.sipHash(this.k0, this.k1, bytes);
+        return new ByteArrayKey(bytes, (int) (h ^ (h >>> 32)));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Off-heap storage that may be larger than a single ByteBuffer, split into
+ * chunks of 2^30 bytes.
+ *
+ * Values are accessed at absolute offsets, and must not straddle a chunk
+ * boundary; storing values whose size is a power of two at aligned offsets
+ * guarantees this. Absolute reads do not modify the buffers, so they may run
+ * concurrently with each other, but not with writes.
+ */
+final class LargeBuffer {
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ByteBuffer[] chunks;
+
+    private LargeBuffer(ByteBuffer[] chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Map a region of a file.
+     */
+    static LargeBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long size)
+            throws IOException {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+        for (int i = 0; i < chunks.length; i++) {
+            long offset = i * CHUNK_SIZE;
+            chunks[i] = channel.map(mode, position + offset, Math.min(CHUNK_SIZE, size - offset));
+        }
+        return new LargeBuffer(chunks);
+    }
+
+    /**
+     * Allocate zeroed memory outside the Java heap.
+     */
+    static LargeBuffer allocateDirect(long size) {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = ByteBuffer.allocateDirect((int) Math.min(CHUNK_SIZE, size - i * CHUNK_SIZE));
+        }
+        return new LargeBuffer(chunks);
+    }
+
+    private static int chunkCount(long size) {
+        return (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+    }
+
+    int getInt(long offset) {
+        return this.chunks[(int) (offset >>> CHUNK_BITS)].getInt((int) (offset & CHUNK_MASK));
+    }
+
+    void putInt(long offset, int value) {
+        this.chunks[(int) (offset >>> CHUNK_BITS)].putInt((int) (offset & CHUNK_MASK), value);
+    }
+
+    long getLong(long offset) {
+        return this.chunks[(int) (offset >>> CHUNK_BITS)].getLong((int) (offset & CHUNK_MASK));
+    }
+
+    void putLong(long offset, long value) {
+        this.chunks[(int) (offset >>> CHUNK_BITS)].putLong((int) (offset & CHUNK_MASK), value);
+    }
+
+    void get(long offset, byte[] dst) {
+        ByteBuffer chunk = this.chunks[(int) (offset >>> CHUNK_BITS)];
+        int position = (int) (offset & CHUNK_MASK);
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = chunk.get(position + i);
+        }
+    }
+
+    void put(long offset, byte[] src) {
+        ByteBuffer chunk = this.chunks[(int) (offset >>> CHUNK_BITS)];
+        int position = (int) (offset & CHUNK_MASK);
+        for (int i = 0; i < src.length; i++) {
+            chunk.put(position + i, src[i]);
+        }
+    }
+
+    /**
+     * Write any changes to a mapped file to the storage device.
+     */
+    void force() {
+        for (ByteBuffer chunk : this.chunks) {
+            if (chunk instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) chunk).force();
+            }
+        }
+    }
+}
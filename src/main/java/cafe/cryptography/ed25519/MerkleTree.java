@@ -0,0 +1,175 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A binary SHA-256 hash tree over a window of records, for Merkle batch
+ * signing.
+ *
+ * Leaves are hashed as SHA-256(0x00 || record) and interior nodes as
+ * SHA-256(0x01 || left || right), as in RFC 6962, so that a leaf can never be
+ * mistaken for a node. A node without a sibling is promoted to the next level
+ * unchanged.
+ *
+ * The root is signed as the message size || root, where size is the number of
+ * leaves as a 4-byte big-endian integer, using Ed25519ctx with
+ * {@link #CONTEXT}. The context keeps root signatures distinct from
+ * signatures over records.
+ */
+final class MerkleTree {
+    /**
+     * The Ed25519ctx context used for signatures over tree roots.
+     */
+    static final Ed25519Context CONTEXT = Ed25519Context
+            .fromByteArray("ed25519-elisabeth merkle root".getBytes(Charset.forName("US-ASCII")));
+
+    static final int HASH_LENGTH = 32;
+
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    /**
+     * The levels of the tree, from the leaf hashes up to the root.
+     */
+    private final List<byte[][]> levels;
+
+    /**
+     * Hash a window of records into a tree.
+     *
+     * @param records the records; there must be at least one.
+     */
+    MerkleTree(byte[][] records) {
+        if (records.length == 0) {
+            throw new IllegalArgumentException("Merkle tree must have at least one record");
+        }
+
+        MessageDigest h = sha256();
+        byte[][] level = new byte[records.length][];
+        for (int i = 0; i < records.length; i++) {
+            level[i] = leafHash(h, records[i], 0, records[i].length);
+        }
+
+        this.levels = new ArrayList<byte[][]>();
+        this.levels.add(level);
+        while (level.length > 1) {
+            byte[][] next = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                if (2 * i + 1 < level.length) {
+                    next[i] = nodeHash(h, level[2 * i], level[2 * i + 1]);
+                } else {
+                    next[i] = level[2 * i];
+                }
+            }
+            this.levels.add(next);
+            level = next;
+        }
+    }
+
+    /**
+     * Returns the number of leaves in the tree.
+     */
+    int size() {
+        return this.levels.get(0).length;
+    }
+
+    /**
+     * Returns the root of the tree.
+     */
+    byte[] root() {
+        return this.levels.get(this.levels.size() - 1)[0];
+    }
+
+    /**
+     * Returns the sibling hashes on the path from a leaf to the root, from the
+     * bottom up.
+     */
+    byte[][] path(int index) {
+        byte[][] path = new byte[pathLength(index, this.size())][];
+        int p = 0;
+        int i = index;
+        for (byte[][] level : this.levels) {
+            int sibling = i ^ 1;
+            if (sibling < level.length) {
+                path[p++] = level[sibling];
+            }
+            i >>= 1;
+        }
+        return path;
+    }
+
+    /**
+     * Returns the number of sibling hashes on the path from a leaf to the root.
+     */
+    static int pathLength(int index, int size) {
+        int length = 0;
+        for (int i = index, n = size; n > 1; i >>= 1, n = (n + 1) >> 1) {
+            if ((i & 1) == 1 || i + 1 < n) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Compute the root of a tree from a record and its path.
+     *
+     * @param path a path of length {@link #pathLength(int, int)}.
+     */
+    static byte[] rootFromPath(byte[] record, int offset, int length, int index, int size, byte[][] path) {
+        MessageDigest h = sha256();
+        byte[] node = leafHash(h, record, offset, length);
+        int p = 0;
+        for (int i = index, n = size; n > 1; i >>= 1, n = (n + 1) >> 1) {
+            if ((i & 1) == 1) {
+                node = nodeHash(h, path[p++], node);
+            } else if (i + 1 < n) {
+                node = nodeHash(h, node, path[p++]);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the message that is signed for a tree root.
+     */
+    static byte[] rootMessage(int size, byte[] root) {
+        byte[] message = new byte[4 + HASH_LENGTH];
+        message[0] = (byte) (size >>> 24);
+        message[1] = (byte) (size >>> 16);
+        message[2] = (byte) (size >>> 8);
+        message[3] = (byte) size;
+        System.arraycopy(root, 0, message, 4, HASH_LENGTH);
+        return message;
+    }
+
+    private static byte[] leafHash(MessageDigest h, byte[] record, int offset, int length) {
+        h.update(LEAF_PREFIX);
+        h.update(record, offset, length);
+        return h.digest();
+    }
+
+    private static byte[] nodeHash(MessageDigest h, byte[] left, byte[] right) {
+        h.update(NODE_PREFIX);
+        h.update(left);
+        h.update(right);
+        return h.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
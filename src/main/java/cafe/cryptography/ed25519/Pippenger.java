@@ -0,0 +1,186 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.Scalar;
+
+/**
+ * Variable-time multiscalar multiplication using Pippenger's bucket method.
+ *
+ * For each radix-2^w digit position, every point is added into the bucket
+ * matching its signed digit, and the buckets are then summed with a running
+ * sum. The number of point additions per input point is roughly 256/w, and the
+ * cost of summing the buckets is independent of the number of points, so this
+ * outperforms {@link Straus} for large inputs.
+ *
+ * This MUST only be used with public inputs.
+ */
+final class Pippenger {
+    private Pippenger() {
+    }
+
+    /**
+     * Compute the sum of [s_i]P_i in variable time.
+     *
+     * @param scalars the scalars s_i.
+     * @param points the points P_i.
+     * @return the multiscalar product.
+     */
+    static EdwardsPoint vartimeMultiscalarMul(Scalar[] scalars, EdwardsPoint[] points) {
+        if (scalars.length != points.length) {
+            throw new IllegalArgumentException("scalars and points must have the same length");
+        }
+
+        int n = scalars.length;
+
+        // Digit width in bits. As the number of points grows, wider digits
+        // reduce the number of additions per point, at the cost of more buckets.
+        int w;
+        if (n < 500) {
+            w = 6;
+        } else if (n < 800) {
+            w = 7;
+        } else {
+            w = 8;
+        }
+
+        int digitsCount = radix2wDigitsCount(w);
+        byte[][] digits = new byte[n][];
+        for (int j = 0; j < n; j++) {
+            digits[j] = asRadix2w(scalars[j], w);
+        }
+
+        // Buckets hold [1..2^(w-1)] multiples; null represents the identity.
+        EdwardsPoint[] buckets = new EdwardsPoint[1 << (w - 1)];
+
+        EdwardsPoint total = null;
+        for (int i = digitsCount - 1; i >= 0; i--) {
+            for (int b = 0; b < buckets.length; b++) {
+                buckets[b] = null;
+            }
+
+            for (int j = 0; j < n; j++) {
+                int digit = digits[j][i];
+                if (digit > 0) {
+                    int b = digit - 1;
+                    buckets[b] = buckets[b] == null ? points[j] : buckets[b].add(points[j]);
+                } else if (digit < 0) {
+                    int b = -digit - 1;
+                    buckets[b] = buckets[b] == null ? points[j].negate() : buckets[b].subtract(points[j]);
+                }
+            }
+
+            // Add the buckets applying the multiplication factor to each bucket.
+            // The most efficient way to do that is to have a single sum with two
+            // running sums: an intermediate sum from the last bucket to the first,
+            // and a sum of intermediate sums.
+            //
+            // For example, to add buckets 1*A, 2*B, 3*C we need to add these points:
+            //   C
+            //   C B
+            //   C B A   Sum = C + (C+B) + (C+B+A)
+            EdwardsPoint intermediate = null;
+            EdwardsPoint column = null;
+            for (int b = buckets.length - 1; b >= 0; b--) {
+                if (buckets[b] != null) {
+                    intermediate = intermediate == null ? buckets[b] : intermediate.add(buckets[b]);
+                }
+                if (intermediate != null) {
+                    column = column == null ? intermediate : column.add(intermediate);
+                }
+            }
+
+            // Shift the running total by one digit and add this column.
+            if (total != null) {
+                for (int k = 0; k < w; k++) {
+                    total = total.dbl();
+                }
+            }
+            if (column != null) {
+                total = total == null ? column : total.add(column);
+            }
+        }
+
+        return total == null ? EdwardsPoint.IDENTITY : total;
+    }
+
+    /**
+     * Returns the number of digits produced by {@link #asRadix2w(Scalar, int)}.
+     */
+    static int radix2wDigitsCount(int w) {
+        // For w = 8, the final carry needs its own digit.
+        return w == 8 ? (256 + w - 1) / w + 1 : (256 + w - 1) / w;
+    }
+
+    /**
+     * Write a reduced scalar in signed radix 2^w form.
+     *
+     * The output digits lie in [-2^(w-1), 2^(w-1)), except for the last digit
+     * which may be equal to 2^(w-1).
+     *
+     * This conversion runs in constant time, so it is also used for secret
+     * scalars by {@link FixedBaseTable}.
+     *
+     * @param s the scalar to convert; it must be reduced modulo the group order.
+     * @param w the digit width, between 4 and 8 inclusive.
+     * @return the signed digits, least significant first.
+     */
+    static byte[] asRadix2w(Scalar s, int w) {
+        if (w < 4 || w > 8) {
+            throw new IllegalArgumentException("digit width must be between 4 and 8");
+        }
+
+        byte[] bytes = s.toByteArray();
+        long[] x = new long[4];
+        for (int i = 0; i < 32; i++) {
+            x[i / 8] |= (bytes[i] & 0xffL) << (8 * (i % 8));
+        }
+
+        long radix = 1L << w;
+        long windowMask = radix - 1;
+        int digitsCount = (256 + w - 1) / w;
+        byte[] digits = new byte[radix2wDigitsCount(w)];
+
+        long carry = 0;
+        for (int i = 0; i < digitsCount; i++) {
+            // Construct a buffer of bits of the scalar, starting at bitOffset
+            int bitOffset = i * w;
+            int idx = bitOffset / 64;
+            int bit = bitOffset % 64;
+            long bitBuf;
+            if (bit < 64 - w || idx == 3) {
+                // This window's bits are contained in a single long, or it's the
+                // last long anyway.
+                bitBuf = x[idx] >>> bit;
+            } else {
+                // Combine the current long's bits with the bits from the next long
+                bitBuf = (x[idx] >>> bit) | (x[idx + 1] << (64 - bit));
+            }
+
+            // Read the actual coefficient value from the window
+            long coef = carry + (bitBuf & windowMask);
+
+            // Recenter coefficients from [0,2^w) to [-2^w/2, 2^w/2)
+            carry = (coef + (radix / 2)) >>> w;
+            digits[i] = (byte) (coef - (carry << w));
+        }
+
+        // When w < 8, we can fold the final carry onto the last digit d,
+        // because d < 2^w/2 so d + carry*2^w = d + 1*2^w < 2^(w+1) < 2^8.
+        //
+        // When w = 8, we can't fit carry*2^w into a byte, so we put the carry
+        // into another digit.
+        if (w == 8) {
+            digits[digitsCount] += (byte) carry;
+        } else {
+            digits[digitsCount - 1] += (byte) (carry << w);
+        }
+
+        return digits;
+    }
+}
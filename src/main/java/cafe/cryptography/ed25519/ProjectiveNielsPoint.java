@@ -0,0 +1,25 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+/**
+ * A pre-computed point on the P^3 model of the curve, represented as
+ * (Y+X, Y-X, Z, 2dXY) in "Niels coordinates".
+ */
+final class ProjectiveNielsPoint {
+    final FieldElement YPlusX;
+    final FieldElement YMinusX;
+    final FieldElement Z;
+    final FieldElement T2D;
+
+    ProjectiveNielsPoint(FieldElement YPlusX, FieldElement YMinusX, FieldElement Z, FieldElement T2D) {
+        this.YPlusX = YPlusX;
+        this.YMinusX = YMinusX;
+        this.Z = Z;
+        this.T2D = T2D;
+    }
+}
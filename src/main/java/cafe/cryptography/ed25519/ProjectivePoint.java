@@ -0,0 +1,37 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+/**
+ * A point (X:Y:Z) on the P^2 model of the curve.
+ */
+final class ProjectivePoint {
+    final FieldElement X;
+    final FieldElement Y;
+    final FieldElement Z;
+
+    ProjectivePoint(FieldElement X, FieldElement Y, FieldElement Z) {
+        this.X = X;
+        this.Y = Y;
+        this.Z = Z;
+    }
+
+    /**
+     * Point doubling: add this point to itself.
+     *
+     * @return [2]P as a CompletedPoint.
+     */
+    CompletedPoint dbl() {
+        FieldElement XX = this.X.square();
+        FieldElement YY = this.Y.square();
+        FieldElement ZZ2 = this.Z.squareAndDouble();
+        FieldElement XPlusYSq = this.X.add(this.Y).square();
+        FieldElement YYPlusXX = YY.add(XX);
+        FieldElement YYMinusXX = YY.subtract(XX);
+        return new CompletedPoint(XPlusYSq.subtract(YYPlusXX), YYPlusXX, YYMinusXX, ZZ2.subtract(YYMinusXX));
+    }
+}
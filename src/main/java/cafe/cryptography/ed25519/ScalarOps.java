@@ -0,0 +1,182 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.Scalar;
+
+/**
+ * Constant-time arithmetic modulo the group order l = 2^252 +
+ * 27742317777372353535851937790883648493, for signing.
+ *
+ * This is the ref10 sc_reduce and sc_muladd arithmetic, using signed radix
+ * 2^21 limbs. It gives the same results as {@link Scalar#fromBytesModOrderWide}
+ * and {@link Scalar#multiplyAndAdd}, but does not depend on the precomputed
+ * tables that curve25519-elisabeth builds when its scalar arithmetic is first
+ * used. This keeps those tables out of signing with our own basepoint tables.
+ */
+final class ScalarOps {
+    private static final long MASK_21 = (1L << 21) - 1;
+
+    /**
+     * 2^252 - l, i.e. -c in signed radix 2^21 limbs. A limb at position
+     * i >= 12 is folded into positions i - 12 .. i - 7 by multiplying it by
+     * these limbs, because 2^252 = -c (mod l).
+     */
+    private static final long[] MINUS_C = new long[] { 666643, 470296, 654183, -997805, 136657, -683901 };
+
+    private ScalarOps() {
+    }
+
+    /**
+     * Reduce a 64-byte little-endian integer modulo l.
+     *
+     * @param input the 64-byte integer.
+     * @return the reduced scalar.
+     */
+    static Scalar fromBytesModOrderWide(byte[] input) {
+        if (input.length != 64) {
+            throw new IllegalArgumentException("Input must be 64 bytes");
+        }
+
+        long[] s = load(input, 24);
+        return Scalar.fromBits(reduce(s));
+    }
+
+    /**
+     * Compute a * b + c modulo l.
+     *
+     * @return the reduced scalar.
+     */
+    static Scalar multiplyAndAdd(Scalar a, Scalar b, Scalar c) {
+        long[] al = load(a.toByteArray(), 12);
+        long[] bl = load(b.toByteArray(), 12);
+        long[] cl = load(c.toByteArray(), 12);
+
+        long[] s = new long[24];
+        System.arraycopy(cl, 0, s, 0, 12);
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 12; j++) {
+                s[i + j] += al[i] * bl[j];
+            }
+        }
+
+        for (int i = 0; i <= 22; i += 2) {
+            carryRounded(s, i);
+        }
+        for (int i = 1; i <= 21; i += 2) {
+            carryRounded(s, i);
+        }
+
+        return Scalar.fromBits(reduce(s));
+    }
+
+    /**
+     * Reduce 24 limbs modulo l, and encode the result.
+     */
+    private static byte[] reduce(long[] s) {
+        for (int i = 23; i >= 18; i--) {
+            fold(s, i);
+        }
+        for (int i = 6; i <= 16; i += 2) {
+            carryRounded(s, i);
+        }
+        for (int i = 7; i <= 15; i += 2) {
+            carryRounded(s, i);
+        }
+
+        for (int i = 17; i >= 12; i--) {
+            fold(s, i);
+        }
+        for (int i = 0; i <= 10; i += 2) {
+            carryRounded(s, i);
+        }
+        for (int i = 1; i <= 11; i += 2) {
+            carryRounded(s, i);
+        }
+
+        fold(s, 12);
+        for (int i = 0; i <= 11; i++) {
+            carry(s, i);
+        }
+
+        fold(s, 12);
+        for (int i = 0; i <= 10; i++) {
+            carry(s, i);
+        }
+
+        return store(s);
+    }
+
+    /**
+     * Replace s[i] * 2^(21 * i) with the equivalent multiple of 2^(21 * (i - 12)).
+     */
+    private static void fold(long[] s, int i) {
+        for (int j = 0; j < MINUS_C.length; j++) {
+            s[i - 12 + j] += s[i] * MINUS_C[j];
+        }
+        s[i] = 0;
+    }
+
+    /**
+     * Move the high bits of s[i] into s[i + 1], leaving s[i] in [0, 2^21).
+     */
+    private static void carry(long[] s, int i) {
+        long c = s[i] >> 21;
+        s[i + 1] += c;
+        s[i] -= c << 21;
+    }
+
+    /**
+     * Move the high bits of s[i] into s[i + 1], leaving s[i] in [-2^20, 2^20).
+     */
+    private static void carryRounded(long[] s, int i) {
+        long c = (s[i] + (1L << 20)) >> 21;
+        s[i + 1] += c;
+        s[i] -= c << 21;
+    }
+
+    /**
+     * Split a little-endian integer into limbs of 21 bits. The top limb holds
+     * all of the remaining bits.
+     */
+    private static long[] load(byte[] input, int limbs) {
+        long[] s = new long[limbs];
+        for (int i = 0; i < limbs; i++) {
+            int bit = 21 * i;
+            long word = 0;
+            for (int j = 0; j < 4 && (bit >> 3) + j < input.length; j++) {
+                word |= (input[(bit >> 3) + j] & 0xffL) << (8 * j);
+            }
+            s[i] = word >> (bit & 7);
+            if (i < limbs - 1) {
+                s[i] &= MASK_21;
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Encode 12 limbs of 21 bits as a 32-byte little-endian integer.
+     */
+    private static byte[] store(long[] s) {
+        byte[] out = new byte[32];
+        long acc = 0;
+        int bits = 0;
+        int o = 0;
+        for (int i = 0; i < 12; i++) {
+            acc |= s[i] << bits;
+            bits += 21;
+            while (bits >= 8) {
+                out[o++] = (byte) acc;
+                acc >>>= 8;
+                bits -= 8;
+            }
+        }
+        out[o] = (byte) acc;
+        return out;
+    }
+}
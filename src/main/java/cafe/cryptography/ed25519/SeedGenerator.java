@@ -0,0 +1,69 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A deterministic random bit generator that expands a 32-byte seed using
+ * SHA-512 in counter mode: block i is SHA-512(seed || i), with i encoded as
+ * an 8-byte big-endian integer.
+ *
+ * Each instance is cheap and uncontended, so bulk operations can draw one seed
+ * per unit of work from a shared SecureRandom and expand it locally. This
+ * class is not thread-safe.
+ */
+final class SeedGenerator {
+    private final byte[] seed;
+    private final MessageDigest h;
+    private final byte[] block;
+    private long counter;
+    private int used;
+
+    SeedGenerator(byte[] seed) {
+        if (seed.length != 32) {
+            throw new IllegalArgumentException("seed must be 32 bytes");
+        }
+        this.seed = seed;
+        try {
+            this.h = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        this.block = new byte[64];
+        this.counter = 0;
+        this.used = this.block.length;
+    }
+
+    /**
+     * Fill part of an array with the next bytes of output.
+     */
+    void nextBytes(byte[] out, int offset, int length) {
+        while (length > 0) {
+            if (this.used == this.block.length) {
+                this.refill();
+            }
+            int n = Math.min(length, this.block.length - this.used);
+            System.arraycopy(this.block, this.used, out, offset, n);
+            this.used += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    private void refill() {
+        this.h.update(this.seed);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            this.h.update((byte) (this.counter >>> shift));
+        }
+        this.counter++;
+        byte[] digest = this.h.digest();
+        System.arraycopy(digest, 0, this.block, 0, digest.length);
+        this.used = 0;
+    }
+}
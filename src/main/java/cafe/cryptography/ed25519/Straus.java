@@ -0,0 +1,264 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.Scalar;
+
+/**
+ * Variable-time multiscalar multiplication using Straus' method with
+ * interleaved width-w NAFs.
+ *
+ * curve25519-elisabeth only exposes single and double-base scalar
+ * multiplication, so the multiscalar method is built on top of the public
+ * EdwardsPoint API. The single and double-base methods work on
+ * {@link ExtendedPoint}s, so that their results can be compared or encoded
+ * without a separate field inversion for each.
+ *
+ * This MUST only be used with public inputs.
+ */
+final class Straus {
+    /**
+     * The NAF width used for the lookup tables. Each table contains
+     * 2^(w-2) = 8 odd multiples of its point.
+     */
+    static final int NAF_WIDTH = 5;
+
+    /**
+     * The NAF width used for the basepoint. Its table contains 2^(w-2) = 64
+     * odd multiples in affine Niels coordinates, and is built once.
+     */
+    static final int BASEPOINT_NAF_WIDTH = 8;
+
+    /**
+     * Holder for the lazily-computed odd multiples of the basepoint.
+     */
+    private static class Basepoint {
+        static final AffineNielsPoint[] ODD_MULTIPLES = affineOddMultiples(FixedBaseTable.BASEPOINT,
+                BASEPOINT_NAF_WIDTH);
+    }
+
+    private Straus() {
+    }
+
+    /**
+     * Compute the sum of [s_i]P_i in variable time.
+     *
+     * @param scalars the scalars s_i.
+     * @param points the points P_i.
+     * @return the multiscalar product.
+     */
+    static EdwardsPoint vartimeMultiscalarMul(Scalar[] scalars, EdwardsPoint[] points) {
+        if (scalars.length != points.length) {
+            throw new IllegalArgumentException("scalars and points must have the same length");
+        }
+
+        int n = scalars.length;
+        byte[][] nafs = new byte[n][];
+        EdwardsPoint[][] tables = new EdwardsPoint[n][];
+        int top = -1;
+        for (int j = 0; j < n; j++) {
+            nafs[j] = nonAdjacentForm(scalars[j], NAF_WIDTH);
+            tables[j] = oddMultiples(points[j], NAF_WIDTH);
+            for (int i = 255; i > top; i--) {
+                if (nafs[j][i] != 0) {
+                    top = i;
+                    break;
+                }
+            }
+        }
+
+        EdwardsPoint Q = EdwardsPoint.IDENTITY;
+        for (int i = top; i >= 0; i--) {
+            Q = Q.dbl();
+            for (int j = 0; j < n; j++) {
+                int digit = nafs[j][i];
+                if (digit > 0) {
+                    Q = Q.add(tables[j][digit / 2]);
+                } else if (digit < 0) {
+                    Q = Q.subtract(tables[j][-digit / 2]);
+                }
+            }
+        }
+        return Q;
+    }
+
+    /**
+     * Compute [a]A in variable time.
+     */
+    static ExtendedPoint vartimeMultiply(Scalar a, ExtendedPoint A) {
+        return vartimeMultiply(nonAdjacentForm(a, NAF_WIDTH), projectiveOddMultiples(A, NAF_WIDTH), null, null);
+    }
+
+    /**
+     * Compute [a]A + [b]B in variable time, where B is the Ed25519 basepoint.
+     */
+    static ExtendedPoint vartimeDoubleScalarMultiplyBasepoint(Scalar a, ExtendedPoint A, Scalar b) {
+        return vartimeMultiply(nonAdjacentForm(a, NAF_WIDTH), projectiveOddMultiples(A, NAF_WIDTH),
+                nonAdjacentForm(b, BASEPOINT_NAF_WIDTH), Basepoint.ODD_MULTIPLES);
+    }
+
+    /**
+     * Compute the sum of the NAF digits of a times A, and of b times B if bNaf
+     * is not null, sharing the doublings between them.
+     */
+    private static ExtendedPoint vartimeMultiply(byte[] aNaf, ProjectiveNielsPoint[] aTable, byte[] bNaf,
+            AffineNielsPoint[] bTable) {
+        int top = 255;
+        while (top >= 0 && aNaf[top] == 0 && (bNaf == null || bNaf[top] == 0)) {
+            top--;
+        }
+
+        ExtendedPoint Q = ExtendedPoint.IDENTITY;
+        ProjectivePoint R = Q.toProjective();
+        for (int i = top; i >= 0; i--) {
+            CompletedPoint t = R.dbl();
+
+            int a = aNaf[i];
+            if (a > 0) {
+                t = t.toExtended().add(aTable[a / 2]);
+            } else if (a < 0) {
+                t = t.toExtended().subtract(aTable[-a / 2]);
+            }
+
+            int b = bNaf == null ? 0 : bNaf[i];
+            if (b > 0) {
+                t = t.toExtended().add(bTable[b / 2]);
+            } else if (b < 0) {
+                t = t.toExtended().subtract(bTable[-b / 2]);
+            }
+
+            if (i == 0) {
+                Q = t.toExtended();
+            } else {
+                R = t.toProjective();
+            }
+        }
+        return Q;
+    }
+
+    /**
+     * Compute the odd multiples [P, 3P, 5P, ..., (2^(w-1) - 1)P] in projective
+     * Niels coordinates.
+     */
+    private static ProjectiveNielsPoint[] projectiveOddMultiples(ExtendedPoint P, int w) {
+        ProjectiveNielsPoint[] table = new ProjectiveNielsPoint[1 << (w - 2)];
+        ProjectiveNielsPoint P2 = P.dbl().toProjectiveNiels();
+        ExtendedPoint multiple = P;
+        table[0] = P.toProjectiveNiels();
+        for (int i = 1; i < table.length; i++) {
+            multiple = multiple.add(P2).toExtended();
+            table[i] = multiple.toProjectiveNiels();
+        }
+        return table;
+    }
+
+    /**
+     * Compute the odd multiples [P, 3P, 5P, ..., (2^(w-1) - 1)P] in affine
+     * Niels coordinates, sharing a single field inversion between them.
+     */
+    private static AffineNielsPoint[] affineOddMultiples(ExtendedPoint P, int w) {
+        ExtendedPoint[] multiples = new ExtendedPoint[1 << (w - 2)];
+        ProjectiveNielsPoint P2 = P.dbl().toProjectiveNiels();
+        multiples[0] = P;
+        for (int i = 1; i < multiples.length; i++) {
+            multiples[i] = multiples[i - 1].add(P2).toExtended();
+        }
+
+        FieldElement[] Z = new FieldElement[multiples.length];
+        for (int i = 0; i < multiples.length; i++) {
+            Z[i] = multiples[i].Z;
+        }
+        FieldElement[] Zinv = FieldElement.batchInvert(Z);
+
+        AffineNielsPoint[] table = new AffineNielsPoint[multiples.length];
+        for (int i = 0; i < multiples.length; i++) {
+            table[i] = AffineNielsPoint.fromExtended(multiples[i], Zinv[i]);
+        }
+        return table;
+    }
+
+    /**
+     * Compute the odd multiples [P, 3P, 5P, ..., (2^(w-1) - 1)P].
+     */
+    static EdwardsPoint[] oddMultiples(EdwardsPoint P, int w) {
+        EdwardsPoint[] table = new EdwardsPoint[1 << (w - 2)];
+        EdwardsPoint P2 = P.dbl();
+        table[0] = P;
+        for (int i = 1; i < table.length; i++) {
+            table[i] = table[i - 1].add(P2);
+        }
+        return table;
+    }
+
+    /**
+     * Compute a width-w "Non-Adjacent Form" of a reduced scalar.
+     *
+     * The output digits are zero or odd, have absolute value less than 2^(w-1), and
+     * at most one of any w consecutive digits is non-zero.
+     *
+     * @param s the scalar to convert; it must be reduced modulo the group order.
+     * @param w the NAF width, between 2 and 8 inclusive.
+     * @return 256 signed digits, least significant first.
+     */
+    static byte[] nonAdjacentForm(Scalar s, int w) {
+        if (w < 2 || w > 8) {
+            throw new IllegalArgumentException("NAF width must be between 2 and 8");
+        }
+
+        byte[] bytes = s.toByteArray();
+        long[] x = new long[5];
+        for (int i = 0; i < 32; i++) {
+            x[i / 8] |= (bytes[i] & 0xffL) << (8 * (i % 8));
+        }
+
+        byte[] naf = new byte[256];
+        int width = 1 << w;
+        long windowMask = width - 1;
+
+        int pos = 0;
+        long carry = 0;
+        while (pos < 256) {
+            // Construct a buffer of bits of the scalar, starting at bit `pos`
+            int idx = pos / 64;
+            int bit = pos % 64;
+            long bitBuf;
+            if (bit < 64 - w) {
+                // This window's bits are contained in a single long
+                bitBuf = x[idx] >>> bit;
+            } else {
+                // Combine the current long's bits with the bits from the next long
+                bitBuf = (x[idx] >>> bit) | (x[idx + 1] << (64 - bit));
+            }
+
+            // Add the carry into the current window
+            long window = carry + (bitBuf & windowMask);
+
+            if ((window & 1) == 0) {
+                // If the window value is even, preserve the carry and continue.
+                // Why is the carry preserved?
+                // If carry == 0 and window & 1 == 0, then the next carry should be 0
+                // If carry == 1 and window & 1 == 0, then bitBuf & 1 == 1 so the next carry
+                // should be 1
+                pos += 1;
+                continue;
+            }
+
+            if (window < width / 2) {
+                carry = 0;
+                naf[pos] = (byte) window;
+            } else {
+                carry = 1;
+                naf[pos] = (byte) (window - width);
+            }
+
+            pos += w;
+        }
+
+        return naf;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.Constants;
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.Scalar;
+
+/**
+ * A precomputed table of multiples of a fixed point, for variable-time scalar
+ * multiplication without doublings.
+ *
+ * The scalar is written in signed radix 2^w form, and table i contains the
+ * multiples [1..2^(w-1)] * 2^(w*i) * P. A scalar multiplication then costs one
+ * point addition per non-zero digit, i.e. at most ceil(256/w) + 1 additions.
+ *
+ * This MUST only be used with public scalars.
+ */
+final class VartimeFixedBaseTable {
+    /**
+     * The digit width used for the basepoint table.
+     */
+    static final int BASEPOINT_WIDTH = 8;
+
+    /**
+     * Holder for the lazily-constructed basepoint table.
+     */
+    private static class Basepoint {
+        static final VartimeFixedBaseTable TABLE = new VartimeFixedBaseTable(Constants.ED25519_BASEPOINT,
+                BASEPOINT_WIDTH);
+    }
+
+    final int width;
+    private final EdwardsPoint[][] tables;
+
+    /**
+     * Precompute the table for the given point.
+     *
+     * @param P the fixed point.
+     * @param width the digit width, between 4 and 8 inclusive.
+     */
+    VartimeFixedBaseTable(EdwardsPoint P, int width) {
+        if (width < 4 || width > 8) {
+            throw new IllegalArgumentException("window width must be between 4 and 8");
+        }
+
+        this.width = width;
+        this.tables = new EdwardsPoint[Pippenger.radix2wDigitsCount(width)][1 << (width - 1)];
+        EdwardsPoint base = P;
+        for (int i = 0; i < this.tables.length; i++) {
+            EdwardsPoint[] table = this.tables[i];
+            table[0] = base;
+            for (int j = 1; j < table.length; j++) {
+                table[j] = table[j - 1].add(base);
+            }
+            // 2^(w-1) * 2^(w*i) * P doubles to 2^(w*(i+1)) * P
+            base = table[table.length - 1].dbl();
+        }
+    }
+
+    /**
+     * Returns the table for the Ed25519 basepoint, constructing it if needed.
+     */
+    static VartimeFixedBaseTable basepoint() {
+        return Basepoint.TABLE;
+    }
+
+    /**
+     * Returns the number of precomputed points in a table of the given width.
+     */
+    static int size(int width) {
+        return Pippenger.radix2wDigitsCount(width) << (width - 1);
+    }
+
+    /**
+     * Returns the approximate heap usage in bytes of a table of the given
+     * width. Each point holds four field elements of ten int limbs, which
+     * with object headers come to around 300 bytes.
+     */
+    static long approximateBytes(int width) {
+        return 300L * size(width);
+    }
+
+    /**
+     * Compute [s]P in variable time.
+     *
+     * @param s the scalar; it must be reduced modulo the group order.
+     * @return the product.
+     */
+    EdwardsPoint multiply(Scalar s) {
+        byte[] digits = Pippenger.asRadix2w(s, this.width);
+        EdwardsPoint Q = EdwardsPoint.IDENTITY;
+        for (int i = 0; i < digits.length; i++) {
+            int digit = digits[i];
+            if (digit > 0) {
+                Q = Q.add(this.tables[i][digit - 1]);
+            } else if (digit < 0) {
+                Q = Q.subtract(this.tables[i][-digit - 1]);
+            }
+        }
+        return Q;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ClockCacheTest {
+    @Test
+    public void evictsUnreferencedEntriesWhenFull() {
+        ClockCache<String, Integer> cache = new ClockCache<String, Integer>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertThat(cache.get("a"), is(1));
+
+        // "a" has its reference bit set, so "b" is evicted instead.
+        cache.put("c", 3);
+        assertThat(cache.evictionCount(), is(1L));
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("c"), is(3));
+    }
+
+    @Test
+    public void reusesRemovedSlotsBeforeEvicting() {
+        ClockCache<String, Integer> cache = new ClockCache<String, Integer>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        // The freed slot is not under the clock hand, which points at "a".
+        assertThat(cache.remove("b"), is(2));
+        cache.put("d", 4);
+        assertThat(cache.remove("c", 3), is(true));
+        cache.put("e", 5);
+
+        assertThat(cache.evictionCount(), is(0L));
+        assertThat(cache.size(), is(3));
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("d"), is(4));
+        assertThat(cache.get("e"), is(5));
+    }
+
+    @Test
+    public void clearFreesEverySlot() {
+        ClockCache<String, Integer> cache = new ClockCache<String, Integer>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.clear();
+        cache.put("c", 3);
+        cache.put("d", 4);
+
+        assertThat(cache.evictionCount(), is(0L));
+        assertThat(cache.size(), is(2));
+    }
+}
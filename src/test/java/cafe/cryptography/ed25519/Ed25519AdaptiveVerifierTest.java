@@ -0,0 +1,148 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class Ed25519AdaptiveVerifierTest {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long KEY_BYTES = VartimeFixedBaseTable
+            .approximateBytes(Ed25519PreparedPublicKey.DEFAULT_WINDOW_WIDTH);
+
+    private static class Signed {
+        final Ed25519PublicKey publicKey;
+        final byte[] message;
+        final Ed25519Signature signature;
+
+        Signed() {
+            Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+            this.publicKey = sk.derivePublic();
+            this.message = new byte[16];
+            RANDOM.nextBytes(this.message);
+            this.signature = sk.sign(this.message);
+        }
+    }
+
+    @Test
+    public void promotesHotKeys() {
+        Ed25519AdaptiveVerifier verifier = new Ed25519AdaptiveVerifier(4 * KEY_BYTES, 3,
+                Ed25519VerificationPolicy.STRICT);
+        assertThat(verifier.capacity(), is(4));
+        Signed s = new Signed();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+        }
+        assertThat(verifier.preparedCount(), is(0));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+        }
+        assertThat(verifier.preparedCount(), is(1));
+        assertThat(verifier.promotionCount(), is(1L));
+        assertThat(verifier.hitCount(), is(2L));
+    }
+
+    @Test
+    public void preparedKeysRejectInvalidSignatures() {
+        Ed25519AdaptiveVerifier verifier = new Ed25519AdaptiveVerifier(KEY_BYTES, 1,
+                Ed25519VerificationPolicy.STRICT);
+        Signed s = new Signed();
+        Signed other = new Signed();
+        assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+        assertThat(verifier.verify(s.publicKey, other.message, s.signature), is(false));
+        assertThat(verifier.verify(s.publicKey, s.message, other.signature), is(false));
+        assertThat(verifier.hitCount(), is(2L));
+    }
+
+    @Test
+    public void demotesColdKeysWithinBudget() {
+        Ed25519AdaptiveVerifier verifier = new Ed25519AdaptiveVerifier(2 * KEY_BYTES, 1,
+                Ed25519VerificationPolicy.STRICT);
+        Signed[] keys = new Signed[] { new Signed(), new Signed(), new Signed() };
+        for (Signed s : keys) {
+            assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+        }
+        assertThat(verifier.preparedCount(), is(2));
+        assertThat(verifier.promotionCount(), is(2L));
+
+        // The third key is admitted once it is used more often than a
+        // prepared one.
+        Signed s = keys[2];
+        assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+        assertThat(verifier.preparedCount(), is(2));
+        assertThat(verifier.promotionCount(), is(3L));
+        assertThat(verifier.demotionCount(), is(1L));
+    }
+
+    @Test
+    public void moreHotKeysThanCapacityDoNotThrash() {
+        Ed25519AdaptiveVerifier verifier = new Ed25519AdaptiveVerifier(2 * KEY_BYTES, 1,
+                Ed25519VerificationPolicy.STRICT);
+        Signed[] keys = new Signed[] { new Signed(), new Signed(), new Signed(), new Signed() };
+        for (int round = 0; round < 50; round++) {
+            for (Signed s : keys) {
+                assertThat(verifier.verify(s.publicKey, s.message, s.signature), is(true));
+            }
+        }
+        assertThat(verifier.preparedCount(), is(2));
+        assertThat(verifier.promotionCount(), is(lessThanOrEqualTo(4L)));
+        assertThat(verifier.hitCount(), is(greaterThanOrEqualTo(90L)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTinyBudgets() {
+        new Ed25519AdaptiveVerifier(KEY_BYTES - 1);
+    }
+
+    @Test
+    public void invalidSignaturesAreNotCounted() {
+        Ed25519AdaptiveVerifier verifier = new Ed25519AdaptiveVerifier(KEY_BYTES, 2,
+                Ed25519VerificationPolicy.STRICT);
+        Signed s = new Signed();
+        Signed other = new Signed();
+        for (int i = 0; i < 10; i++) {
+            assertThat(verifier.verify(s.publicKey, other.message, s.signature), is(false));
+        }
+        assertThat(verifier.preparedCount(), is(0));
+        assertThat(verifier.promotionCount(), is(0L));
+    }
+
+    @Test
+    public void sketchCountsDecay() {
+        FrequencySketch sketch = new FrequencySketch(64, 100);
+        byte[] item = new byte[32];
+        for (int i = 0; i < 40; i++) {
+            sketch.incrementAndEstimate(item);
+        }
+        assertThat(sketch.estimate(item), is(40));
+
+        // Reaching the sample size halves every count.
+        for (int i = 0; i < 60; i++) {
+            sketch.incrementAndEstimate(new byte[] { (byte) i });
+        }
+        assertThat(sketch.estimate(item) <= 20, is(true));
+    }
+
+    @Test
+    public void sipHashMatchesReferenceVectors() {
+        // From the SipHash reference implementation, with the key 00 01 ... 0f.
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+        byte[] in = new byte[15];
+        for (int i = 0; i < in.length; i++) {
+            in[i] = (byte) i;
+        }
+        assertThat(FrequencySketch.sipHash(k0, k1, new byte[0]), is(0x726fdb47dd0e0e31L));
+        assertThat(FrequencySketch.sipHash(k0, k1, in), is(0xa129ca6149be45e5L));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class Ed25519BasepointTableTest {
+    @Test
+    public void everyTableMatchesTestVectors() {
+        for (Ed25519BasepointTable table : Ed25519BasepointTable.values()) {
+            for (Ed25519TestVectors.TestTuple t : Ed25519TestVectors.testCases) {
+                Ed25519ExpandedPrivateKey expsk = Ed25519PrivateKey.fromByteArray(t.sk).expand(table);
+                Ed25519PublicKey vk = expsk.derivePublic();
+                assertThat(vk.toByteArray(), is(t.vk));
+
+                Ed25519Signature sig = expsk.sign(t.message);
+                assertThat(sig.toByteArray(), is(t.signature));
+                assertThat(vk.verify(t.message, sig), is(true));
+
+                byte[] out = new byte[64];
+                expsk.signer().sign(t.message, 0, t.message.length, out, 0);
+                assertThat(out, is(t.signature));
+            }
+        }
+    }
+
+    @Test
+    public void tablesAreShared() {
+        assertThat(Ed25519BasepointTable.DEFAULT.table(), is(nullValue()));
+        assertThat(Ed25519BasepointTable.RADIX_16.table(), is(sameInstance(FixedBaseTable.basepoint())));
+        assertThat(Ed25519BasepointTable.RADIX_32.table(), is(sameInstance(Ed25519BasepointTable.RADIX_32.table())));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Ed25519BatchVerifierTest {
+    static Ed25519BatchVerifier testVectorBatch() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+            batch.queue(Ed25519PublicKey.fromByteArray(testCase.vk), testCase.message,
+                    Ed25519Signature.fromByteArray(testCase.signature));
+        }
+        return batch;
+    }
+
+    @Test
+    public void emptyBatchVerifies() {
+        assertTrue(new Ed25519BatchVerifier().verify());
+    }
+
+    @Test
+    public void testVectorsVerify() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = testVectorBatch();
+        assertThat(batch.size(), is(Ed25519TestVectors.testCases.size()));
+        assertTrue(batch.verify());
+    }
+
+    @Test
+    public void rejectsWrongMessage() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = testVectorBatch();
+        Ed25519TestVectors.TestTuple testCase = Ed25519TestVectors.testCases.iterator().next();
+        batch.queue(Ed25519PublicKey.fromByteArray(testCase.vk), "wrong message".getBytes(),
+                Ed25519Signature.fromByteArray(testCase.signature));
+        assertFalse(batch.verify());
+    }
+
+    @Test
+    public void rejectsInvalidR() throws InvalidEncodingException {
+        // A valid signature, with R replaced by an encoding that is not on the curve.
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        byte[] sig = Ed25519Rfc8032TestVectors.TEST_1_SIG.toByteArray();
+        sig[0] = 2;
+        for (int i = 1; i < 32; i++) {
+            sig[i] = 0;
+        }
+        batch.queue(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_1_MSG,
+                Ed25519Signature.fromByteArray(sig));
+        assertFalse(batch.verify());
+    }
+
+    @Test
+    public void verifyEachOnValidBatch() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = testVectorBatch();
+        BitSet valid = batch.verifyEach();
+        assertThat(valid.cardinality(), is(batch.size()));
+    }
+
+    @Test
+    public void verifyEachLocatesInvalidSignatures() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        BitSet expected = new BitSet();
+        int i = 0;
+        for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+            // Corrupt the message for a few of the signatures.
+            byte[] message = testCase.message;
+            if (i % 37 == 5) {
+                message = "wrong message".getBytes();
+            } else {
+                expected.set(i);
+            }
+            batch.queue(Ed25519PublicKey.fromByteArray(testCase.vk), message,
+                    Ed25519Signature.fromByteArray(testCase.signature));
+            i++;
+        }
+        assertFalse(batch.verify());
+        assertThat(batch.verifyEach(), is(expected));
+    }
+
+    @Test
+    public void verifyEachRejectsInvalidR() throws InvalidEncodingException {
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        byte[] sig = Ed25519Rfc8032TestVectors.TEST_1_SIG.toByteArray();
+        sig[0] = 2;
+        for (int i = 1; i < 32; i++) {
+            sig[i] = 0;
+        }
+        batch.queue(Ed25519Rfc8032TestVectors.TEST_2_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                Ed25519Rfc8032TestVectors.TEST_2_SIG);
+        batch.queue(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_1_MSG,
+                Ed25519Signature.fromByteArray(sig));
+        BitSet expected = new BitSet();
+        expected.set(0);
+        assertThat(batch.verifyEach(), is(expected));
+    }
+
+    @Test
+    public void verifyEachOnEmptyBatch() {
+        assertThat(new Ed25519BatchVerifier().verifyEach(), is(new BitSet()));
+    }
+
+    @Test
+    public void parallelVerify() throws InvalidEncodingException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertTrue(new Ed25519BatchVerifier().verify(pool));
+
+            Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+            for (int i = 0; i < 4; i++) {
+                for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+                    batch.queue(Ed25519PublicKey.fromByteArray(testCase.vk), testCase.message,
+                            Ed25519Signature.fromByteArray(testCase.signature));
+                }
+            }
+            assertTrue(batch.verify(pool));
+
+            batch.queue(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                    Ed25519Rfc8032TestVectors.TEST_1_SIG);
+            assertFalse(batch.verify(pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
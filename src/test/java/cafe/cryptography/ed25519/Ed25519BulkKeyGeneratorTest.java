@@ -0,0 +1,102 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class Ed25519BulkKeyGeneratorTest {
+    private static SecureRandom seededRandom() throws NoSuchAlgorithmException {
+        SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+        random.setSeed(new byte[] { 1, 2, 3, 4 });
+        return random;
+    }
+
+    @Test
+    public void publicKeysMatchDerivePublic() {
+        int count = Ed25519BulkKeyGenerator.CHUNK_SIZE + 7;
+        Ed25519BulkKeyGenerator.Keys keys = Ed25519BulkKeyGenerator.generate(new SecureRandom(), count);
+        assertThat(keys.size(), is(count));
+
+        byte[] privateKeys = keys.privateKeys();
+        byte[] publicKeys = keys.publicKeys();
+        assertThat(privateKeys.length, is(32 * count));
+        assertThat(publicKeys.length, is(32 * count));
+        for (int i = 0; i < count; i++) {
+            Ed25519PublicKey derived = keys.privateKey(i).derivePublic();
+            assertThat(keys.publicKey(i).toByteArray(), is(derived.toByteArray()));
+            assertThat(Arrays.copyOfRange(publicKeys, 32 * i, 32 * i + 32), is(derived.toByteArray()));
+            assertThat(Arrays.copyOfRange(privateKeys, 32 * i, 32 * i + 32), is(keys.privateKey(i).toByteArray()));
+        }
+    }
+
+    @Test
+    public void generatedKeysSignAndVerify() {
+        Ed25519BulkKeyGenerator.Keys keys = Ed25519BulkKeyGenerator.generate(new SecureRandom(), 3);
+        byte[] message = new byte[] { 1, 2, 3 };
+        for (int i = 0; i < keys.size(); i++) {
+            Ed25519Signature signature = keys.privateKey(i).expand().sign(message);
+            assertThat(keys.publicKey(i).verify(message, signature), is(true));
+        }
+    }
+
+    @Test
+    public void keysAreDistinct() {
+        Ed25519BulkKeyGenerator.Keys keys = Ed25519BulkKeyGenerator.generate(new SecureRandom(), 20);
+        for (int i = 1; i < keys.size(); i++) {
+            assertThat(keys.privateKey(i).toByteArray(), is(not(keys.privateKey(i - 1).toByteArray())));
+        }
+    }
+
+    @Test
+    public void parallelMatchesSequential() throws NoSuchAlgorithmException {
+        int count = 3 * Ed25519BulkKeyGenerator.CHUNK_SIZE + 1;
+        Ed25519BulkKeyGenerator.Keys sequential = Ed25519BulkKeyGenerator.generate(seededRandom(), count);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Ed25519BulkKeyGenerator.Keys parallel = Ed25519BulkKeyGenerator.generate(seededRandom(), count, pool);
+            assertThat(parallel.privateKeys(), is(sequential.privateKeys()));
+            assertThat(parallel.publicKeys(), is(sequential.publicKeys()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void generatesNoKeys() {
+        Ed25519BulkKeyGenerator.Keys keys = Ed25519BulkKeyGenerator.generate(new SecureRandom(), 0);
+        assertThat(keys.size(), is(0));
+        assertThat(keys.publicKeys().length, is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsCountsThatOverflow() {
+        Ed25519BulkKeyGenerator.generate(new SecureRandom(), Ed25519BulkKeyGenerator.MAX_COUNT + 1);
+    }
+
+    @Test
+    public void seedGeneratorOutputDoesNotDependOnReadSizes() {
+        byte[] seed = new byte[32];
+        seed[0] = 7;
+        byte[] whole = new byte[200];
+        new SeedGenerator(seed).nextBytes(whole, 0, whole.length);
+
+        byte[] pieces = new byte[200];
+        SeedGenerator generator = new SeedGenerator(seed);
+        for (int offset = 0; offset < pieces.length; offset += 25) {
+            generator.nextBytes(pieces, offset, 25);
+        }
+        assertThat(pieces, is(whole));
+    }
+}
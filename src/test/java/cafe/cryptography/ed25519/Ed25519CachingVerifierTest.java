@@ -0,0 +1,83 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Ed25519CachingVerifierTest {
+    @Test
+    public void repeatedVerificationHitsCache() {
+        Ed25519CachingVerifier verifier = new Ed25519CachingVerifier(16);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(verifier.verify(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_1_MSG,
+                    Ed25519Rfc8032TestVectors.TEST_1_SIG));
+        }
+        assertThat(verifier.missCount(), is(1L));
+        assertThat(verifier.hitCount(), is(2L));
+        assertThat(verifier.size(), is(1));
+    }
+
+    @Test
+    public void invalidSignaturesAreNotCached() {
+        Ed25519CachingVerifier verifier = new Ed25519CachingVerifier(16);
+        for (int i = 0; i < 2; i++) {
+            assertFalse(verifier.verify(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                    Ed25519Rfc8032TestVectors.TEST_1_SIG));
+        }
+        assertThat(verifier.missCount(), is(2L));
+        assertThat(verifier.hitCount(), is(0L));
+        assertThat(verifier.size(), is(0));
+    }
+
+    @Test
+    public void cachedResultIsBoundToTriple() {
+        Ed25519CachingVerifier verifier = new Ed25519CachingVerifier(16);
+        assertTrue(verifier.verify(Ed25519Rfc8032TestVectors.TEST_2_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                Ed25519Rfc8032TestVectors.TEST_2_SIG));
+        assertFalse(verifier.verify(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                Ed25519Rfc8032TestVectors.TEST_2_SIG));
+        assertFalse(verifier.verify(Ed25519Rfc8032TestVectors.TEST_2_VK, Ed25519Rfc8032TestVectors.TEST_3_MSG,
+                Ed25519Rfc8032TestVectors.TEST_2_SIG));
+        assertFalse(verifier.verify(Ed25519Rfc8032TestVectors.TEST_2_VK, Ed25519Rfc8032TestVectors.TEST_2_MSG,
+                Ed25519Rfc8032TestVectors.TEST_3_SIG));
+        assertThat(verifier.hitCount(), is(0L));
+    }
+
+    @Test
+    public void capacityIsBounded() throws InvalidEncodingException {
+        Ed25519CachingVerifier verifier = new Ed25519CachingVerifier(8);
+        for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+            assertTrue(verifier.verify(Ed25519PublicKey.fromByteArray(testCase.vk), testCase.message,
+                    Ed25519Signature.fromByteArray(testCase.signature)));
+        }
+        assertThat(verifier.size(), is(8));
+        assertThat(verifier.capacity(), is(8));
+
+        verifier.clear();
+        assertThat(verifier.size(), is(0));
+    }
+
+    @Test
+    public void clockEvictsUnreferencedEntries() {
+        ClockCache<Integer, String> cache = new ClockCache<Integer, String>(2);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        // Referencing 1 gives it a second chance, so 2 is evicted instead.
+        assertThat(cache.get(1), is("one"));
+        cache.put(3, "three");
+        assertThat(cache.get(1), is("one"));
+        assertThat(cache.get(2), is((String) null));
+        assertThat(cache.get(3), is("three"));
+        assertThat(cache.evictionCount(), is(1L));
+    }
+}
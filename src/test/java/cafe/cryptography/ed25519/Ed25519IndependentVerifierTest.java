@@ -0,0 +1,75 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class Ed25519IndependentVerifierTest {
+    @Test
+    public void emptyVerifierReturnsNoResults() {
+        Ed25519IndependentVerifier verifier = new Ed25519IndependentVerifier();
+        assertThat(verifier.size(), is(0));
+        assertThat(verifier.verify().isEmpty(), is(true));
+    }
+
+    @Test
+    public void resultsMatchIndividualVerification() {
+        SecureRandom random = new SecureRandom();
+        Ed25519ExpandedPrivateKey[] keys = new Ed25519ExpandedPrivateKey[3];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Ed25519PrivateKey.generate(random).expand();
+        }
+
+        for (Ed25519VerificationPolicy policy : Ed25519VerificationPolicy.values()) {
+            Ed25519IndependentVerifier verifier = new Ed25519IndependentVerifier(policy);
+            assertThat(verifier.policy(), is(policy));
+            BitSet expected = new BitSet();
+            for (int i = 0; i < 20; i++) {
+                Ed25519ExpandedPrivateKey key = keys[i % keys.length];
+                byte[] message = new byte[i];
+                random.nextBytes(message);
+                Ed25519Signature signature = key.sign(message);
+
+                // Corrupt every third message, and sign every fifth with the
+                // wrong key.
+                if (i % 3 == 0 && i > 0) {
+                    message[0] ^= 1;
+                }
+                Ed25519PublicKey publicKey = (i % 5 == 4 ? keys[(i + 1) % keys.length] : key).derivePublic();
+
+                verifier.queue(publicKey, message, signature);
+                expected.set(i, publicKey.verify(message, signature, policy));
+            }
+
+            assertThat(verifier.size(), is(20));
+            assertThat(verifier.verify(), is(expected));
+            assertThat(expected.cardinality(), is(11));
+        }
+    }
+
+    @Test
+    public void rfc8032TestVectorsAreValid() {
+        Ed25519IndependentVerifier verifier = new Ed25519IndependentVerifier();
+        verifier.queue(Ed25519Rfc8032TestVectors.TEST_1_VK, Ed25519Rfc8032TestVectors.TEST_1_MSG,
+                Ed25519Rfc8032TestVectors.TEST_1_SIG);
+        verifier.queue(Ed25519Rfc8032TestVectors.TEST_1024_VK, Ed25519Rfc8032TestVectors.TEST_1024_MSG, 1,
+                Ed25519Rfc8032TestVectors.TEST_1024_MSG.length - 1, Ed25519Rfc8032TestVectors.TEST_1024_SIG);
+        verifier.queue(Ed25519Rfc8032TestVectors.TEST_1024_VK, Ed25519Rfc8032TestVectors.TEST_1024_MSG,
+                Ed25519Rfc8032TestVectors.TEST_1024_SIG);
+
+        BitSet valid = verifier.verify();
+        assertThat(valid.get(0), is(true));
+        assertThat(valid.get(1), is(false));
+        assertThat(valid.get(2), is(true));
+    }
+}
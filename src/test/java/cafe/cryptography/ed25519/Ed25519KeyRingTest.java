@@ -0,0 +1,166 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class Ed25519KeyRingTest {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final byte[] MESSAGE = new byte[] { 1, 2, 3 };
+
+    @Test
+    public void signsWithCachedExpansion() {
+        Ed25519KeyRing<String> ring = new Ed25519KeyRing<String>(4);
+        Ed25519PrivateKey sk = Ed25519PrivateKey.generate(RANDOM);
+        ring.put("alice", sk);
+        assertThat(ring.size(), is(1));
+        assertThat(ring.contains("alice"), is(true));
+        assertThat(ring.expandedCount(), is(0));
+
+        Ed25519Signature signature = ring.sign("alice", MESSAGE);
+        assertThat(signature, is(sk.expand().sign(MESSAGE)));
+        assertThat(ring.publicKey("alice").toByteArray(), is(sk.derivePublic().toByteArray()));
+        assertThat(ring.get("alice"), is(sameInstance(ring.get("alice"))));
+
+        assertThat(ring.missCount(), is(1L));
+        assertThat(ring.hitCount(), is(3L));
+        assertThat(ring.expandedCount(), is(1));
+    }
+
+    @Test
+    public void unknownKeys() {
+        Ed25519KeyRing<String> ring = new Ed25519KeyRing<String>(4);
+        assertThat(ring.get("bob"), is(nullValue()));
+        assertThat(ring.publicKey("bob"), is(nullValue()));
+        assertThat(ring.remove("bob"), is(false));
+        assertThat(ring.missCount(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void signWithUnknownKeyFails() {
+        new Ed25519KeyRing<String>(4).sign("bob", MESSAGE);
+    }
+
+    @Test
+    public void replacingAKeyDropsItsExpansion() {
+        Ed25519KeyRing<Integer> ring = new Ed25519KeyRing<Integer>(4);
+        Ed25519PrivateKey first = Ed25519PrivateKey.generate(RANDOM);
+        Ed25519PrivateKey second = Ed25519PrivateKey.generate(RANDOM);
+        ring.put(1, first);
+        assertThat(ring.publicKey(1).toByteArray(), is(first.derivePublic().toByteArray()));
+        ring.put(1, second);
+        assertThat(ring.publicKey(1).toByteArray(), is(second.derivePublic().toByteArray()));
+
+        assertThat(ring.remove(1), is(true));
+        assertThat(ring.get(1), is(nullValue()));
+        assertThat(ring.size(), is(0));
+        assertThat(ring.expandedCount(), is(0));
+    }
+
+    @Test
+    public void evictsColdKeys() {
+        Ed25519KeyRing<Integer> ring = new Ed25519KeyRing<Integer>(2, Ed25519BasepointTable.RADIX_16);
+        Ed25519PrivateKey[] keys = new Ed25519PrivateKey[3];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Ed25519PrivateKey.generate(RANDOM);
+            ring.put(i, keys[i]);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(ring.sign(i, MESSAGE), is(keys[i].expand().sign(MESSAGE)));
+        }
+        assertThat(ring.size(), is(3));
+        assertThat(ring.expandedCount(), is(2));
+        assertThat(ring.evictionCount(), is(1L));
+
+        // Evicted keys are expanded again when they are next used.
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(ring.sign(i, MESSAGE), is(keys[i].expand().sign(MESSAGE)));
+        }
+        assertThat(ring.expandedCount(), is(2));
+    }
+
+    @Test
+    public void removeDuringExpansionLeavesNoExpansion() {
+        final Ed25519PrivateKey sk = Ed25519PrivateKey.generate(RANDOM);
+        Ed25519KeyRing<Integer> ring = new Ed25519KeyRing<Integer>(4) {
+            @Override
+            Ed25519ExpandedPrivateKey expand(Ed25519PrivateKey privateKey) {
+                // Simulate another thread removing the key mid-expansion.
+                this.remove(1);
+                return super.expand(privateKey);
+            }
+        };
+        ring.put(1, sk);
+
+        assertThat(ring.get(1).derivePublic(), is(sk.derivePublic()));
+        assertThat(ring.contains(1), is(false));
+        assertThat(ring.expandedCount(), is(0));
+    }
+
+    @Test
+    public void replaceDuringExpansionKeepsFreshExpansion() {
+        final Ed25519PrivateKey first = Ed25519PrivateKey.generate(RANDOM);
+        final Ed25519PrivateKey second = Ed25519PrivateKey.generate(RANDOM);
+        Ed25519KeyRing<Integer> ring = new Ed25519KeyRing<Integer>(4) {
+            @Override
+            Ed25519ExpandedPrivateKey expand(Ed25519PrivateKey privateKey) {
+                if (privateKey == first) {
+                    this.put(1, second);
+                }
+                return super.expand(privateKey);
+            }
+        };
+        ring.put(1, first);
+
+        // The stale expansion of the first key must not stay cached.
+        ring.get(1);
+        assertThat(ring.expandedCount(), is(0));
+        assertThat(ring.publicKey(1), is(second.derivePublic()));
+        assertThat(ring.expandedCount(), is(1));
+    }
+
+    @Test
+    public void concurrentRemoveLeavesNoExpansion() throws InterruptedException {
+        final Ed25519KeyRing<Integer> ring = new Ed25519KeyRing<Integer>(4);
+        final Ed25519PrivateKey[] keys = new Ed25519PrivateKey[] { Ed25519PrivateKey.generate(RANDOM),
+                Ed25519PrivateKey.generate(RANDOM) };
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread getter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!done.get()) {
+                    Ed25519ExpandedPrivateKey expanded = ring.get(1);
+                    if (expanded != null) {
+                        byte[] pk = expanded.derivePublic().toByteArray();
+                        assertThat(pk, anyOf(is(keys[0].derivePublic().toByteArray()),
+                                is(keys[1].derivePublic().toByteArray())));
+                    }
+                }
+            }
+        });
+        getter.start();
+
+        long deadline = System.nanoTime() + 300000000L;
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            ring.put(1, keys[i % 2]);
+            ring.put(1, keys[(i + 1) % 2]);
+            ring.remove(1);
+        }
+        done.set(true);
+        getter.join();
+
+        assertThat(ring.size(), is(0));
+        assertThat(ring.expandedCount(), is(0));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class Ed25519MerkleVerifierTest {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static byte[][] records(int n) {
+        byte[][] records = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            records[i] = new byte[1 + RANDOM.nextInt(40)];
+            RANDOM.nextBytes(records[i]);
+        }
+        return records;
+    }
+
+    @Test
+    public void everyRecordVerifies() {
+        Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+        for (int n = 1; n <= 17; n++) {
+            byte[][] records = records(n);
+            Ed25519MerkleProof[] proofs = sk.signMerkle(records);
+            Ed25519MerkleVerifier verifier = new Ed25519MerkleVerifier(sk.derivePublic(), 4);
+            for (int i = 0; i < n; i++) {
+                assertThat(proofs[i].index(), is(i));
+                assertThat(proofs[i].size(), is(n));
+                assertThat(proofs[i].signature(), is(proofs[0].signature()));
+                assertThat(verifier.verify(records[i], proofs[i]), is(true));
+            }
+            // Only the first record of the window needed a signature check.
+            assertThat(verifier.missCount(), is(1L));
+            assertThat(verifier.hitCount(), is((long) n - 1));
+        }
+    }
+
+    @Test
+    public void proofsRoundTrip() {
+        Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+        byte[][] records = records(11);
+        Ed25519MerkleProof[] proofs = sk.signMerkle(records);
+        Ed25519MerkleVerifier verifier = new Ed25519MerkleVerifier(sk.derivePublic(), 4);
+        for (int i = 0; i < records.length; i++) {
+            byte[] encoded = proofs[i].toByteArray();
+            assertThat(encoded.length, is(72 + MerkleTree.pathLength(i, records.length) * 32));
+            Ed25519MerkleProof decoded = Ed25519MerkleProof.fromByteArray(encoded);
+            assertThat(decoded.toByteArray(), is(encoded));
+            assertThat(verifier.verify(records[i], decoded), is(true));
+        }
+    }
+
+    @Test
+    public void rejectsWrongRecordsAndKeys() {
+        Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+        byte[][] records = records(6);
+        Ed25519MerkleProof[] proofs = sk.signMerkle(records);
+        Ed25519MerkleVerifier verifier = new Ed25519MerkleVerifier(sk.derivePublic(), 4);
+
+        // A record checked against another record's proof.
+        assertThat(verifier.verify(records[1], proofs[2]), is(false));
+
+        // A modified record, after the window's root has been cached.
+        assertThat(verifier.verify(records[0], proofs[0]), is(true));
+        byte[] modified = records[3].clone();
+        modified[0] ^= 1;
+        assertThat(verifier.verify(modified, proofs[3]), is(false));
+
+        // The wrong public key.
+        Ed25519PublicKey other = Ed25519PrivateKey.generate(RANDOM).derivePublic();
+        assertThat(new Ed25519MerkleVerifier(other, 4).verify(records[0], proofs[0]), is(false));
+    }
+
+    @Test
+    public void rootSignatureIsNotARecordSignature() {
+        Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+        byte[][] records = new byte[][] { new byte[] { 1, 2, 3 } };
+        Ed25519MerkleProof[] proofs = sk.signMerkle(records);
+        assertThat(sk.derivePublic().verify(records[0], proofs[0].signature()), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTruncatedProofs() {
+        Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(RANDOM).expand();
+        byte[] encoded = sk.signMerkle(records(5))[0].toByteArray();
+        byte[] truncated = new byte[encoded.length - 32];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        Ed25519MerkleProof.fromByteArray(truncated);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyWindows() {
+        Ed25519PrivateKey.generate(RANDOM).expand().signMerkle(new byte[0][]);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class Ed25519MessageSourceTest {
+    static final Ed25519ExpandedPrivateKey SK = Ed25519Rfc8032TestVectors.TEST_1024_SK.expand();
+    static final byte[] MSG = Ed25519Rfc8032TestVectors.TEST_1024_MSG;
+    static final Ed25519Signature SIG = Ed25519Rfc8032TestVectors.TEST_1024_SIG;
+
+    @Test
+    public void signFromByteBuffers() throws IOException {
+        assertThat(SK.sign(Ed25519MessageSource.fromByteBuffer(ByteBuffer.wrap(MSG))), is(SIG));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(MSG.length);
+        direct.put(MSG).flip();
+        assertThat(SK.sign(Ed25519MessageSource.fromByteBuffer(direct)), is(SIG));
+        assertThat(direct.position(), is(0));
+    }
+
+    @Test
+    public void signFromCallback() throws IOException {
+        Ed25519MessageSource source = new Ed25519MessageSource() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                for (int i = 0; i < MSG.length; i += 100) {
+                    out.write(MSG, i, Math.min(100, MSG.length - i));
+                }
+            }
+        };
+        assertThat(SK.sign(source), is(SIG));
+    }
+
+    @Test
+    public void signFromFile() throws IOException {
+        File file = File.createTempFile("ed25519", ".msg");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(new byte[17]);
+                out.write(MSG);
+            } finally {
+                out.close();
+            }
+
+            RandomAccessFile in = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = in.getChannel();
+                assertThat(SK.sign(Ed25519MessageSource.fromFileChannel(channel, 17, MSG.length)), is(SIG));
+
+                channel.position(17);
+                assertThat(SK.sign(Ed25519MessageSource.fromFileChannel(channel)), is(SIG));
+                assertThat(channel.position(), is(17L));
+
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 17, MSG.length);
+                assertThat(SK.sign(Ed25519MessageSource.fromByteBuffer(mapped)), is(SIG));
+            } finally {
+                in.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsSourceThatChanges() throws IOException {
+        SK.sign(new Ed25519MessageSource() {
+            int passes = 0;
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(MSG);
+                out.write(this.passes++);
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.security.wycheproof.JsonUtil;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Ed25519PreparedPublicKeyTest {
+    @Test
+    public void testVectorsVerify() throws InvalidEncodingException {
+        for (int w = 4; w <= 8; w++) {
+            for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+                Ed25519PreparedPublicKey vk = Ed25519PublicKey.fromByteArray(testCase.vk).prepare(w);
+                Ed25519Signature sig = Ed25519Signature.fromByteArray(testCase.signature);
+                assertTrue("Test case " + testCase.caseNum + " failed with width " + w,
+                        vk.verify(testCase.message, sig));
+            }
+        }
+    }
+
+    @Test
+    public void rejectsWrongMessage() {
+        Ed25519PreparedPublicKey vk = Ed25519Rfc8032TestVectors.TEST_2_VK.prepare();
+        assertTrue(vk.verify(Ed25519Rfc8032TestVectors.TEST_2_MSG, Ed25519Rfc8032TestVectors.TEST_2_SIG));
+        assertFalse(vk.verify(Ed25519Rfc8032TestVectors.TEST_3_MSG, Ed25519Rfc8032TestVectors.TEST_2_SIG));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prepareRejectsNarrowWindow() {
+        Ed25519Rfc8032TestVectors.TEST_1_VK.prepare(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prepareRejectsWideWindow() {
+        Ed25519Rfc8032TestVectors.TEST_1_VK.prepare(9);
+    }
+
+    @Test
+    public void matchesVerifyOnWycheproof() throws Exception {
+        JsonObject test = JsonUtil.getTestVectors("eddsa_test.json");
+        for (JsonElement g : test.getAsJsonArray("testGroups")) {
+            JsonObject group = g.getAsJsonObject();
+            Ed25519PublicKey vk = Ed25519PublicKey
+                    .fromByteArray(JsonUtil.asByteArray(group.getAsJsonObject("key").get("pk")));
+            Ed25519PreparedPublicKey prepared = vk.prepare();
+            for (JsonElement t : group.getAsJsonArray("tests")) {
+                JsonObject testcase = t.getAsJsonObject();
+                byte[] message = JsonUtil.asByteArray(testcase.get("msg"));
+                Ed25519Signature sig;
+                try {
+                    sig = Ed25519Signature.fromByteArray(JsonUtil.asByteArray(testcase.get("sig")));
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                assertThat("tcId " + testcase.get("tcId"), prepared.verify(message, sig),
+                        is(vk.verify(message, sig)));
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class Ed25519PublicKeyPoolTest {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static byte[] randomKey() {
+        return Ed25519PrivateKey.generate(RANDOM).derivePublic().toByteArray();
+    }
+
+    @Test
+    public void repeatedKeysAreTheSameInstance() throws InvalidEncodingException {
+        Ed25519PublicKeyPool pool = new Ed25519PublicKeyPool(4);
+        byte[] encoded = randomKey();
+        Ed25519PublicKey first = pool.fromByteArray(encoded);
+        Ed25519PublicKey second = pool.fromByteArray(encoded.clone());
+        Ed25519PublicKey third = pool.fromByteBuffer(ByteBuffer.wrap(encoded));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(third, is(sameInstance(first)));
+        assertThat(first.toByteArray(), is(encoded));
+
+        assertThat(pool.missCount(), is(1L));
+        assertThat(pool.hitCount(), is(2L));
+        assertThat(pool.size(), is(1));
+    }
+
+    @Test
+    public void pooledKeysCannotBeModified() throws InvalidEncodingException {
+        Ed25519PublicKeyPool pool = new Ed25519PublicKeyPool(4);
+        byte[] encoded = randomKey();
+        byte[] input = encoded.clone();
+        Ed25519PublicKey key = pool.fromByteArray(input);
+
+        input[0] ^= 1;
+        key.toByteArray()[1] ^= 1;
+        assertThat(key.toByteArray(), is(encoded));
+        assertThat(pool.fromByteArray(encoded), is(sameInstance(key)));
+    }
+
+    @Test
+    public void invalidEncodingsAreNotPooled() {
+        Ed25519PublicKeyPool pool = new Ed25519PublicKeyPool(4);
+        byte[] invalid = new byte[32];
+        invalid[0] = 2;
+        for (int i = 0; i < 2; i++) {
+            try {
+                pool.fromByteArray(invalid);
+                fail("invalid encoding was accepted");
+            } catch (InvalidEncodingException e) {
+                // expected
+            }
+        }
+        assertThat(pool.size(), is(0));
+        assertThat(pool.missCount(), is(2L));
+    }
+
+    @Test
+    public void invalidBufferEncodingsLeavePositionUnchanged() {
+        Ed25519PublicKeyPool pool = new Ed25519PublicKeyPool(4);
+        ByteBuffer buf = ByteBuffer.allocateDirect(40);
+        buf.put(3, (byte) 2);
+        buf.position(3);
+        try {
+            pool.fromByteBuffer(buf);
+            fail("invalid encoding was accepted");
+        } catch (InvalidEncodingException e) {
+            // expected
+        }
+        assertThat(buf.position(), is(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongLength() throws InvalidEncodingException {
+        new Ed25519PublicKeyPool(4).fromByteArray(new byte[31]);
+    }
+
+    @Test
+    public void evictsColdKeys() throws InvalidEncodingException {
+        Ed25519PublicKeyPool pool = new Ed25519PublicKeyPool(2);
+        byte[] a = randomKey();
+        byte[] b = randomKey();
+        byte[] c = randomKey();
+        Ed25519PublicKey pooledA = pool.fromByteArray(a);
+        pool.fromByteArray(b);
+        pool.fromByteArray(c);
+        assertThat(pool.size(), is(2));
+        assertThat(pool.evictionCount(), is(1L));
+
+        // An evicted key is decompressed again, as a new instance.
+        Ed25519PublicKey key = pool.fromByteArray(a);
+        assertThat(key.toByteArray(), is(a));
+        assertThat(key, is(not(sameInstance(pooledA))));
+
+        pool.clear();
+        assertThat(pool.size(), is(0));
+    }
+
+    @Test
+    public void keyedHashesDoNotShareArrayHashCollisions() {
+        // 31 * 1 + 0 == 31 * 0 + 31, so these collide under Arrays.hashCode.
+        byte[] a = new byte[32];
+        byte[] b = new byte[32];
+        a[30] = 1;
+        b[31] = 31;
+        assertThat(new ByteArrayKey(a).hashCode(), is(new ByteArrayKey(b).hashCode()));
+
+        KeyedHasher hasher = new KeyedHasher();
+        assertThat(hasher.key(a).hashCode(), is(not(hasher.key(b).hashCode())));
+        assertThat(hasher.key(a), is(hasher.key(a.clone())));
+        assertThat(hasher.key(a).hashCode(), is(hasher.key(a.clone()).hashCode()));
+    }
+}
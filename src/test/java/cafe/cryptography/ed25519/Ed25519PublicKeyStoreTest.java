@@ -0,0 +1,125 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class Ed25519PublicKeyStoreTest {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Ed25519PublicKey[] randomKeys(int n) {
+        Ed25519BulkKeyGenerator.Keys keys = Ed25519BulkKeyGenerator.generate(RANDOM, n);
+        Ed25519PublicKey[] publicKeys = new Ed25519PublicKey[n];
+        for (int i = 0; i < n; i++) {
+            publicKeys[i] = keys.publicKey(i);
+        }
+        return publicKeys;
+    }
+
+    private Path newPath() throws IOException {
+        File file = this.folder.newFile();
+        file.delete();
+        return file.toPath();
+    }
+
+    @Test
+    public void storesAndLooksUpKeys() {
+        Ed25519PublicKey[] keys = randomKeys(300);
+        Ed25519PublicKeyStore store = Ed25519PublicKeyStore.allocate(keys.length, 16);
+        for (int i = 0; i < keys.length; i++) {
+            store.put(1000L * i, keys[i]);
+        }
+        assertThat(store.size(), is(keys.length));
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(store.contains(1000L * i), is(true));
+            assertThat(store.encoding(1000L * i), is(keys[i].toByteArray()));
+            assertThat(store.get(1000L * i), is(keys[i]));
+        }
+        assertThat(store.contains(1), is(false));
+        assertThat(store.encoding(1), is(nullValue()));
+        assertThat(store.get(1), is(nullValue()));
+    }
+
+    @Test
+    public void cachesDecompressedKeys() {
+        Ed25519PublicKey[] keys = randomKeys(1);
+        Ed25519PublicKeyStore store = Ed25519PublicKeyStore.allocate(4, 4);
+        store.put(7, keys[0]);
+        Ed25519PublicKey first = store.get(7);
+        assertThat(store.get(7), is(sameInstance(first)));
+        assertThat(store.hitCount(), is(1L));
+        assertThat(store.missCount(), is(1L));
+    }
+
+    @Test
+    public void replacesKeys() {
+        Ed25519PublicKey[] keys = randomKeys(2);
+        Ed25519PublicKeyStore store = Ed25519PublicKeyStore.allocate(1, 4);
+        store.put(-5, keys[0]);
+        assertThat(store.get(-5), is(keys[0]));
+        store.put(-5, keys[1]);
+        assertThat(store.get(-5), is(keys[1]));
+        assertThat(store.size(), is(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsKeysWhenFull() {
+        Ed25519PublicKey[] keys = randomKeys(2);
+        Ed25519PublicKeyStore store = Ed25519PublicKeyStore.allocate(1, 4);
+        store.put(1, keys[0]);
+        store.put(2, keys[1]);
+    }
+
+    @Test
+    public void reopensFromDisk() throws IOException {
+        Path path = this.newPath();
+        Ed25519PublicKey[] keys = randomKeys(50);
+        Ed25519PublicKeyStore store = Ed25519PublicKeyStore.create(path, 64, 8);
+        for (int i = 0; i < keys.length; i++) {
+            store.put(i, keys[i]);
+        }
+        store.close();
+
+        Ed25519PublicKeyStore reopened = Ed25519PublicKeyStore.open(path, 8);
+        try {
+            assertThat(reopened.size(), is(keys.length));
+            assertThat(reopened.capacity(), is(64));
+            for (int i = 0; i < keys.length; i++) {
+                assertThat(reopened.get(i), is(keys[i]));
+            }
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsInvalidFiles() throws IOException {
+        Path path = this.newPath();
+        RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+        try {
+            file.setLength(4096);
+        } finally {
+            file.close();
+        }
+        Ed25519PublicKeyStore.open(path, 8);
+    }
+}
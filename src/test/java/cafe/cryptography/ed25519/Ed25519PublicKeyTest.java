@@ -0,0 +1,98 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Ed25519PublicKeyTest {
+    static ByteBuffer directBuffer(byte[] prefix, byte[] contents) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(prefix.length + contents.length + 3);
+        buf.put(prefix).put(contents).put(new byte[3]);
+        buf.flip();
+        buf.position(prefix.length);
+        buf.limit(prefix.length + contents.length);
+        return buf;
+    }
+
+    @Test
+    public void fromByteBufferReadsFromPosition() throws InvalidEncodingException {
+        ByteBuffer buf = directBuffer(new byte[5], Ed25519Rfc8032TestVectors.TEST_1_VK.toByteArray());
+        assertThat(Ed25519PublicKey.fromByteBuffer(buf), is(Ed25519Rfc8032TestVectors.TEST_1_VK));
+        assertThat(buf.position(), is(37));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromByteBufferRejectsShortInput() throws InvalidEncodingException {
+        Ed25519PublicKey.fromByteBuffer(ByteBuffer.allocate(31));
+    }
+
+    @Test
+    public void fromByteBufferLeavesPositionOnError() {
+        byte[] invalid = new byte[32];
+        invalid[0] = 2;
+        ByteBuffer buf = directBuffer(new byte[5], invalid);
+        try {
+            Ed25519PublicKey.fromByteBuffer(buf);
+            fail("expected InvalidEncodingException");
+        } catch (InvalidEncodingException e) {
+            // Expected
+        }
+        assertThat(buf.position(), is(5));
+    }
+
+    @Test
+    public void verifyByteBuffer() {
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_1024_MSG;
+        Ed25519PublicKey vk = Ed25519Rfc8032TestVectors.TEST_1024_VK;
+        Ed25519Signature sig = Ed25519Rfc8032TestVectors.TEST_1024_SIG;
+
+        ByteBuffer direct = directBuffer(new byte[7], msg);
+        assertTrue(vk.verify(direct, sig));
+        assertTrue(vk.prepare().verify(direct, sig, Ed25519VerificationPolicy.ZIP215));
+        assertThat(direct.position(), is(7));
+        assertThat(direct.remaining(), is(msg.length));
+
+        ByteBuffer heap = ByteBuffer.wrap(msg, 1, msg.length - 1);
+        assertFalse(vk.verify(heap, sig));
+        assertThat(heap.position(), is(1));
+    }
+
+    @Test
+    public void verifyAnyReturnsMatchingCandidate() {
+        SecureRandom random = new SecureRandom();
+        List<Ed25519PublicKey> candidates = new ArrayList<Ed25519PublicKey>();
+        Ed25519ExpandedPrivateKey signer = null;
+        for (int i = 0; i < 4; i++) {
+            Ed25519ExpandedPrivateKey sk = Ed25519PrivateKey.generate(random).expand();
+            candidates.add(sk.derivePublic());
+            if (i == 2) {
+                signer = sk;
+            }
+        }
+
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_1024_MSG;
+        Ed25519Signature sig = signer.sign(msg);
+        assertThat(Ed25519PublicKey.verifyAny(candidates, msg, sig), is(2));
+        assertThat(Ed25519PublicKey.verifyAny(candidates, msg, sig, Ed25519VerificationPolicy.ZIP215), is(2));
+        assertThat(Ed25519PublicKey.verifyAny(candidates, msg, 1, msg.length - 1, sig,
+                Ed25519VerificationPolicy.STRICT), is(-1));
+        assertThat(Ed25519PublicKey.verifyAny(candidates.subList(0, 2), msg, sig), is(-1));
+        assertThat(Ed25519PublicKey.verifyAny(new ArrayList<Ed25519PublicKey>(), msg, sig), is(-1));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Ed25519QuorumVerifierTest {
+    static final byte[] MESSAGE = "block 1234".getBytes();
+    static final int SIGNERS = 10;
+
+    Ed25519ExpandedPrivateKey[] keys;
+
+    @Before
+    public void generateKeys() {
+        SecureRandom r = new SecureRandom();
+        this.keys = new Ed25519ExpandedPrivateKey[SIGNERS];
+        for (int i = 0; i < SIGNERS; i++) {
+            this.keys[i] = Ed25519PrivateKey.generate(r).expand();
+        }
+    }
+
+    /**
+     * Build a quorum in which the signers in the given set sign the wrong
+     * message.
+     */
+    Ed25519QuorumVerifier quorum(BitSet bad) {
+        Ed25519QuorumVerifier quorum = new Ed25519QuorumVerifier(MESSAGE);
+        for (int i = 0; i < SIGNERS; i++) {
+            byte[] signed = bad.get(i) ? "block 1235".getBytes() : MESSAGE;
+            quorum.add(this.keys[i].derivePublic(), this.keys[i].sign(signed));
+        }
+        return quorum;
+    }
+
+    @Test
+    public void allValidStopsAtThreshold() {
+        Ed25519QuorumVerifier.Result result = quorum(new BitSet()).verify(7);
+        assertTrue(result.isQuorum());
+        assertThat(result.validCount(), is(7));
+        assertThat(result.invalid().isEmpty(), is(true));
+        // The last three signers are never checked.
+        assertFalse(result.valid().get(7));
+    }
+
+    @Test
+    public void reportsInvalidSigners() {
+        BitSet bad = new BitSet();
+        bad.set(1);
+        bad.set(4);
+        Ed25519QuorumVerifier.Result result = quorum(bad).verify(7);
+        assertTrue(result.isQuorum());
+        assertThat(result.validCount(), is(7));
+        assertThat(result.invalid(), is(bad));
+    }
+
+    @Test
+    public void stopsWhenThresholdUnreachable() {
+        BitSet bad = new BitSet();
+        bad.set(0);
+        bad.set(1);
+        bad.set(2);
+        bad.set(3);
+        Ed25519QuorumVerifier.Result result = quorum(bad).verify(7);
+        assertFalse(result.isQuorum());
+        assertThat(result.invalid(), is(bad));
+        assertThat(result.validCount(), is(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicateSigners() {
+        Ed25519QuorumVerifier quorum = new Ed25519QuorumVerifier(MESSAGE);
+        quorum.add(this.keys[0].derivePublic(), this.keys[0].sign(MESSAGE));
+        quorum.add(this.keys[0].derivePublic(), this.keys[0].sign(MESSAGE));
+    }
+
+    @Test
+    public void rejectsNonCanonicalEncodingsOfTheSameSigner() throws InvalidEncodingException {
+        // Three encodings of the identity point: canonical, with the sign bit
+        // set, and with y = p + 1.
+        byte[] canonical = new byte[32];
+        canonical[0] = 1;
+        byte[] negativeZero = canonical.clone();
+        negativeZero[31] = (byte) 0x80;
+        byte[] unreduced = new byte[32];
+        Arrays.fill(unreduced, (byte) 0xff);
+        unreduced[0] = (byte) 0xee;
+        unreduced[31] = 0x7f;
+
+        Ed25519Signature signature = this.keys[0].sign(MESSAGE);
+        Ed25519QuorumVerifier quorum = new Ed25519QuorumVerifier(MESSAGE);
+        quorum.add(Ed25519PublicKey.fromByteArray(canonical), signature);
+        for (byte[] encoding : new byte[][] { negativeZero, unreduced }) {
+            try {
+                quorum.add(Ed25519PublicKey.fromByteArray(encoding), signature);
+                fail("expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+        assertThat(quorum.size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsThresholdAboveSize() {
+        quorum(new BitSet()).verify(SIGNERS + 1);
+    }
+}
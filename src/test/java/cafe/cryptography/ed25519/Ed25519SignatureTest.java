@@ -6,8 +6,14 @@
 
 package cafe.cryptography.ed25519;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
 public class Ed25519SignatureTest {
     @Test
     public void fromByteArrayAcceptsInvalidR() {
@@ -38,4 +44,48 @@ public class Ed25519SignatureTest {
         Ed25519Signature.fromByteArray(Utils.hexToBytes(
                 "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff0f"));
     }
+
+    @Test
+    public void fromByteBufferReadsFromPosition() {
+        byte[] sig = Ed25519Rfc8032TestVectors.TEST_2_SIG.toByteArray();
+        ByteBuffer buf = ByteBuffer.allocateDirect(70);
+        buf.position(3);
+        buf.put(sig);
+        buf.position(3);
+        assertThat(Ed25519Signature.fromByteBuffer(buf), is(Ed25519Rfc8032TestVectors.TEST_2_SIG));
+        assertThat(buf.position(), is(67));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromByteBufferRejectsShortInput() {
+        ByteBuffer buf = ByteBuffer.allocate(64);
+        buf.position(1);
+        Ed25519Signature.fromByteBuffer(buf);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromByteBufferRejectsNonCanonicalS() {
+        ByteBuffer buf = ByteBuffer.allocate(64);
+        while (buf.hasRemaining()) {
+            buf.put((byte) 0xff);
+        }
+        buf.flip();
+        Ed25519Signature.fromByteBuffer(buf);
+    }
+
+    @Test
+    public void fromByteBufferLeavesPositionOnError() {
+        ByteBuffer buf = ByteBuffer.allocateDirect(70);
+        while (buf.hasRemaining()) {
+            buf.put((byte) 0xff);
+        }
+        buf.position(3);
+        try {
+            Ed25519Signature.fromByteBuffer(buf);
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertThat(buf.position(), is(3));
+    }
 }
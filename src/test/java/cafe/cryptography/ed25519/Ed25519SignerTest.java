@@ -0,0 +1,78 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+public class Ed25519SignerTest {
+    @Test
+    public void matchesSign() {
+        for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+            Ed25519ExpandedPrivateKey esk = Ed25519PrivateKey.fromByteArray(testCase.sk).expand();
+            Ed25519Signer signer = esk.signer();
+            byte[] out = new byte[70];
+            // Sign twice to check that the signer is reusable.
+            for (int i = 0; i < 2; i++) {
+                signer.sign(testCase.message, 0, testCase.message.length, out, 3);
+                assertThat(Arrays.copyOfRange(out, 3, 67), is(testCase.signature));
+            }
+        }
+    }
+
+    @Test
+    public void signIntoByteBuffers() {
+        Ed25519Signer signer = Ed25519Rfc8032TestVectors.TEST_2_SK.expand().signer();
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_2_MSG;
+        byte[] expected = Ed25519Rfc8032TestVectors.TEST_2_SIG.toByteArray();
+
+        ByteBuffer heap = ByteBuffer.allocate(80);
+        heap.position(10);
+        signer.sign(msg, 0, msg.length, heap);
+        assertThat(heap.position(), is(74));
+        byte[] actual = new byte[64];
+        heap.position(10);
+        heap.get(actual);
+        assertThat(actual, is(expected));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        signer.sign(msg, 0, msg.length, direct);
+        direct.flip();
+        direct.get(actual);
+        assertThat(actual, is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsShortOutput() {
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_2_MSG;
+        Ed25519Rfc8032TestVectors.TEST_2_SK.expand().signer().sign(msg, 0, msg.length, new byte[64], 1);
+    }
+
+    @Test
+    public void recoversFromBadMessageBounds() {
+        Ed25519ExpandedPrivateKey esk = Ed25519Rfc8032TestVectors.TEST_1024_SK.expand();
+        Ed25519Signer signer = esk.signer();
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_1024_MSG;
+        byte[] out = new byte[64];
+
+        try {
+            signer.sign(msg, 1, msg.length, out, 0);
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        signer.sign(msg, 0, msg.length, out, 0);
+        assertThat(out, is(esk.sign(msg).toByteArray()));
+    }
+}
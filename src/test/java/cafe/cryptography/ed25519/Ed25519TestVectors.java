@@ -92,6 +92,26 @@ public class Ed25519TestVectors {
         }
     }
 
+    @Test
+    public void testSignBatch() {
+        Ed25519ExpandedPrivateKey[] keys = new Ed25519ExpandedPrivateKey[testCases.size()];
+        byte[][] messages = new byte[testCases.size()][];
+        int i = 0;
+        for (TestTuple testCase : testCases) {
+            keys[i] = Ed25519PrivateKey.fromByteArray(testCase.sk).expand();
+            messages[i] = testCase.message;
+            i++;
+        }
+
+        Ed25519Signature[] signatures = Ed25519ExpandedPrivateKey.signBatch(keys, messages);
+        i = 0;
+        for (TestTuple testCase : testCases) {
+            assertThat("Test case " + testCase.caseNum + " failed", signatures[i].toByteArray(),
+                    is(testCase.signature));
+            i++;
+        }
+    }
+
     @Test
     public void testVerify() throws InvalidEncodingException {
         for (TestTuple testCase : testCases) {
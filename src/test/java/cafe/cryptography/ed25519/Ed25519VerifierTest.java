@@ -0,0 +1,91 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Ed25519VerifierTest {
+    @Test
+    public void testVectorsVerifyInChunks() throws InvalidEncodingException {
+        for (Ed25519TestVectors.TestTuple testCase : Ed25519TestVectors.testCases) {
+            Ed25519PublicKey vk = Ed25519PublicKey.fromByteArray(testCase.vk);
+            Ed25519Signature sig = Ed25519Signature.fromByteArray(testCase.signature);
+            Ed25519Verifier verifier = vk.verifier(sig);
+            for (int i = 0; i < testCase.message.length; i += 7) {
+                verifier.update(testCase.message, i, Math.min(7, testCase.message.length - i));
+            }
+            assertTrue("Test case " + testCase.caseNum + " failed", verifier.verify());
+        }
+    }
+
+    @Test
+    public void rejectsWrongMessage() {
+        assertFalse(Ed25519Rfc8032TestVectors.TEST_2_VK.verifier(Ed25519Rfc8032TestVectors.TEST_2_SIG)
+                .update(Ed25519Rfc8032TestVectors.TEST_3_MSG).verify());
+    }
+
+    @Test
+    public void updateWithByteBuffers() {
+        byte[] msg = Ed25519Rfc8032TestVectors.TEST_1024_MSG;
+        ByteBuffer heap = ByteBuffer.wrap(msg, 0, 500);
+        ByteBuffer direct = ByteBuffer.allocateDirect(msg.length - 500);
+        direct.put(msg, 500, msg.length - 500).flip();
+        assertTrue(Ed25519Rfc8032TestVectors.TEST_1024_VK.verifier(Ed25519Rfc8032TestVectors.TEST_1024_SIG)
+                .update(heap).update(direct).verify());
+        assertFalse(heap.hasRemaining());
+        assertFalse(direct.hasRemaining());
+    }
+
+    @Test
+    public void updateWithInputStream() throws IOException {
+        assertTrue(Ed25519Rfc8032TestVectors.TEST_1024_VK.verifier(Ed25519Rfc8032TestVectors.TEST_1024_SIG)
+                .update(new ByteArrayInputStream(Ed25519Rfc8032TestVectors.TEST_1024_MSG)).verify());
+    }
+
+    @Test
+    public void updateWithFileChannel() throws IOException {
+        File file = File.createTempFile("ed25519", ".msg");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(Ed25519Rfc8032TestVectors.TEST_1024_MSG);
+            } finally {
+                out.close();
+            }
+
+            RandomAccessFile in = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = in.getChannel();
+                assertTrue(Ed25519Rfc8032TestVectors.TEST_1024_VK.verifier(Ed25519Rfc8032TestVectors.TEST_1024_SIG)
+                        .update(channel).verify());
+            } finally {
+                in.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cannotBeReused() {
+        Ed25519Verifier verifier = Ed25519Rfc8032TestVectors.TEST_1_VK.verifier(Ed25519Rfc8032TestVectors.TEST_1_SIG);
+        assertTrue(verifier.verify());
+        verifier.verify();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test against the RFC 8032 Ed25519ctx test vectors.
+ */
+public class Ed25519ctxRfc8032TestVectors {
+    // @formatter:off
+    static final Ed25519PrivateKey TEST_CTX_SK = Ed25519PrivateKey.fromByteArray(
+        Utils.hexToBytes("0305334e381af78f141cb666f6199f57bc3495335a256a95bd2a55bf546663f6"));
+    static final Ed25519PublicKey TEST_CTX_VK = Ed25519Rfc8032TestVectors.publicKey(
+        Utils.hexToBytes("dfc9425e4f968f7f0c29f0259cf5f9aed6851c2bb4ad8bfb860cfee0ab248292"));
+    static final byte[] TEST_CTX_MSG = Utils.hexToBytes("f726936d19c800494e3fdaff20b276a8");
+    static final Ed25519Context TEST_FOO_CTX = Ed25519Context.fromByteArray(Utils.hexToBytes("666f6f"));
+    static final Ed25519Signature TEST_FOO_SIG = Ed25519Signature.fromByteArray(
+        Utils.hexToBytes(
+            "55a4cc2f70a54e04288c5f4cd1e45a7b" +
+            "b520b36292911876cada7323198dd87a" +
+            "8b36950b95130022907a7fb7c4e9b2d5" +
+            "f6cca685a587b4b21f4b888e4e7edb0d"));
+    static final Ed25519Context TEST_BAR_CTX = Ed25519Context.fromByteArray(Utils.hexToBytes("626172"));
+    static final Ed25519Signature TEST_BAR_SIG = Ed25519Signature.fromByteArray(
+        Utils.hexToBytes(
+            "fc60d5872fc46b3aa69f8b5b4351d580" +
+            "8f92bcc044606db097abab6dbcb1aee3" +
+            "216c48e8b3b66431b5b186d1d28f8ee1" +
+            "5a5ca2df6668346291c2043d4eb3e90d"));
+
+    // Not from RFC 8032; cross-checked against Bouncy Castle.
+    static final Ed25519Signature TEST_PH_FOO_SIG = Ed25519Signature.fromByteArray(
+        Utils.hexToBytes(
+            "7f10c8ea19ef3024d67c9437976111aa" +
+            "50429d6b3ccfe8e902a76654de511050" +
+            "a28f3e1ab9f5ac142de3be1f7a82fa92" +
+            "d706fd8d7673298fd3dc3475924b550e"));
+    // @formatter:on
+
+    @Test
+    public void derivePublic() {
+        assertThat(TEST_CTX_SK.derivePublic(), is(TEST_CTX_VK));
+    }
+
+    @Test
+    public void testSign() {
+        Ed25519ExpandedPrivateKey esk = TEST_CTX_SK.expand();
+        assertThat(esk.sign(TEST_CTX_MSG, TEST_FOO_CTX), is(TEST_FOO_SIG));
+        assertThat(esk.sign(TEST_CTX_MSG, TEST_BAR_CTX), is(TEST_BAR_SIG));
+        assertThat(esk.signPrehashed(new Ed25519Prehash().update(TEST_CTX_MSG), TEST_FOO_CTX), is(TEST_PH_FOO_SIG));
+    }
+
+    @Test
+    public void testVerify() {
+        assertTrue(TEST_CTX_VK.verify(TEST_CTX_MSG, TEST_FOO_SIG, TEST_FOO_CTX));
+        assertTrue(TEST_CTX_VK.verify(TEST_CTX_MSG, TEST_BAR_SIG, TEST_BAR_CTX));
+        assertTrue(TEST_CTX_VK.verifyPrehashed(new Ed25519Prehash().update(TEST_CTX_MSG), TEST_PH_FOO_SIG,
+                TEST_FOO_CTX));
+    }
+
+    @Test
+    public void contextsAreSeparated() {
+        assertFalse(TEST_CTX_VK.verify(TEST_CTX_MSG, TEST_FOO_SIG, TEST_BAR_CTX));
+        assertFalse(TEST_CTX_VK.verify(TEST_CTX_MSG, TEST_FOO_SIG));
+        assertFalse(TEST_CTX_VK.verifyPrehashed(new Ed25519Prehash().update(TEST_CTX_MSG), TEST_PH_FOO_SIG));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyContext() {
+        Ed25519Context.fromByteArray(new byte[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLongContext() {
+        Ed25519Context.fromByteArray(new byte[256]);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test against the RFC 8032 Ed25519ph test vectors.
+ */
+public class Ed25519phRfc8032TestVectors {
+    // @formatter:off
+    static final Ed25519PrivateKey TEST_ABC_SK = Ed25519PrivateKey.fromByteArray(
+        Utils.hexToBytes("833fe62409237b9d62ec77587520911e9a759cec1d19755b7da901b96dca3d42"));
+    static final Ed25519PublicKey TEST_ABC_VK = Ed25519Rfc8032TestVectors.publicKey(
+        Utils.hexToBytes("ec172b93ad5e563bf4932c70e1245034c35467ef2efd4d64ebf819683467e2bf"));
+    static final byte[] TEST_ABC_MSG = Utils.hexToBytes("616263");
+    static final Ed25519Signature TEST_ABC_SIG = Ed25519Signature.fromByteArray(
+        Utils.hexToBytes(
+            "98a70222f0b8121aa9d30f813d683f80" +
+            "9e462b469c7ff87639499bb94e6dae41" +
+            "31f85042463c2a355a2003d062adf5aa" +
+            "a10b8c61e636062aaad11c2a26083406"));
+    // @formatter:on
+
+    @Test
+    public void derivePublic() {
+        assertThat(TEST_ABC_SK.derivePublic(), is(TEST_ABC_VK));
+    }
+
+    @Test
+    public void testSign() {
+        Ed25519Prehash ph = new Ed25519Prehash().update(TEST_ABC_MSG);
+        assertThat(TEST_ABC_SK.expand().signPrehashed(ph), is(TEST_ABC_SIG));
+    }
+
+    @Test
+    public void testVerify() throws IOException {
+        assertTrue(TEST_ABC_VK.verifyPrehashed(new Ed25519Prehash().update(new ByteArrayInputStream(TEST_ABC_MSG)),
+                TEST_ABC_SIG));
+
+        Ed25519Prehash ph = new Ed25519Prehash().update(TEST_ABC_MSG, 0, 1).update(TEST_ABC_MSG, 1, 2);
+        assertTrue(TEST_ABC_VK.verifyPrehashed(Ed25519Prehash.fromDigest(ph.digest()), TEST_ABC_SIG));
+        assertTrue(TEST_ABC_VK.verifyPrehashed(ph, TEST_ABC_SIG));
+    }
+
+    @Test
+    public void notInterchangeableWithEd25519() {
+        assertFalse(TEST_ABC_VK.verify(TEST_ABC_MSG, TEST_ABC_SIG));
+        Ed25519Prehash ph = new Ed25519Prehash().update(Ed25519Rfc8032TestVectors.TEST_2_MSG);
+        assertFalse(Ed25519Rfc8032TestVectors.TEST_2_VK.verifyPrehashed(ph, Ed25519Rfc8032TestVectors.TEST_2_SIG));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cannotUpdateAfterUse() {
+        Ed25519Prehash ph = new Ed25519Prehash().update(TEST_ABC_MSG);
+        TEST_ABC_VK.verifyPrehashed(ph, TEST_ABC_SIG);
+        ph.update(TEST_ABC_MSG);
+    }
+}
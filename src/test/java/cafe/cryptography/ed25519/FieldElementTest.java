@@ -0,0 +1,81 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class FieldElementTest {
+    static final BigInteger P = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+
+    static BigInteger toBigInteger(FieldElement f) {
+        byte[] le = f.toByteArray();
+        byte[] be = new byte[33];
+        for (int i = 0; i < 32; i++) {
+            be[32 - i] = le[i];
+        }
+        return new BigInteger(be);
+    }
+
+    static FieldElement fromBigInteger(BigInteger x) {
+        byte[] be = x.toByteArray();
+        byte[] le = new byte[32];
+        for (int i = 0; i < be.length && i < 32; i++) {
+            le[i] = be[be.length - 1 - i];
+        }
+        return FieldElement.fromByteArray(le);
+    }
+
+    static BigInteger randomElement(Random r) {
+        return new BigInteger(255, r).mod(P);
+    }
+
+    @Test
+    public void arithmeticMatchesBigInteger() {
+        Random r = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            BigInteger a = randomElement(r);
+            BigInteger b = randomElement(r);
+            FieldElement fa = fromBigInteger(a);
+            FieldElement fb = fromBigInteger(b);
+            assertThat(toBigInteger(fa), is(a));
+            assertThat(toBigInteger(fa.add(fb)), is(a.add(b).mod(P)));
+            assertThat(toBigInteger(fa.subtract(fb)), is(a.subtract(b).mod(P)));
+            assertThat(toBigInteger(fa.negate()), is(a.negate().mod(P)));
+            assertThat(toBigInteger(fa.multiply(fb)), is(a.multiply(b).mod(P)));
+            assertThat(toBigInteger(fa.square()), is(a.multiply(a).mod(P)));
+            assertThat(toBigInteger(fa.squareAndDouble()), is(a.multiply(a).shiftLeft(1).mod(P)));
+            assertThat(toBigInteger(fa.invert()), is(a.modInverse(P)));
+        }
+    }
+
+    @Test
+    public void constants() {
+        BigInteger d = toBigInteger(FieldElement.EDWARDS_D);
+        assertThat(d.multiply(BigInteger.valueOf(121666)).mod(P), is(BigInteger.valueOf(-121665).mod(P)));
+        assertThat(toBigInteger(FieldElement.SQRT_M1.square()), is(P.subtract(BigInteger.ONE)));
+    }
+
+    @Test
+    public void batchInvertMatchesInvert() {
+        Random r = new Random(11);
+        FieldElement[] inputs = new FieldElement[17];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = fromBigInteger(randomElement(r).add(BigInteger.ONE));
+        }
+        FieldElement[] inverses = FieldElement.batchInvert(inputs);
+        for (int i = 0; i < inputs.length; i++) {
+            assertThat(inverses[i], is(inputs[i].invert()));
+        }
+        assertThat(FieldElement.batchInvert(new FieldElement[0]).length, is(0));
+    }
+}
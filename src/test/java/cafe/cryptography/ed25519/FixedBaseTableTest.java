@@ -0,0 +1,89 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Random;
+
+import cafe.cryptography.curve25519.CompressedEdwardsY;
+import cafe.cryptography.curve25519.Constants;
+import cafe.cryptography.curve25519.InvalidEncodingException;
+import cafe.cryptography.curve25519.Scalar;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class FixedBaseTableTest {
+    @Test
+    public void basepointRoundTrips() throws InvalidEncodingException {
+        byte[] encoding = FixedBaseTable.BASEPOINT.compress();
+        assertThat(encoding, is(Constants.ED25519_BASEPOINT.compress().toByteArray()));
+        assertThat(new CompressedEdwardsY(encoding).decompress(), is(Constants.ED25519_BASEPOINT));
+    }
+
+    @Test
+    public void multiplyMatchesBasepointTable() {
+        Random r = new Random(3);
+        for (int w = 4; w <= 8; w++) {
+            FixedBaseTable table = new FixedBaseTable(FixedBaseTable.BASEPOINT, w);
+            for (int i = 0; i < 8; i++) {
+                Scalar s = PippengerTest.randomScalar(r);
+                assertThat(table.multiply(s).compress(),
+                        is(Constants.ED25519_BASEPOINT_TABLE.multiply(s).compress().toByteArray()));
+            }
+        }
+    }
+
+    @Test
+    public void vartimeMultiplyMatchesMultiply() {
+        Random r = new Random(4);
+        for (int i = 0; i < 16; i++) {
+            Scalar s = PippengerTest.randomScalar(r);
+            ExtendedPoint expected = FixedBaseTable.basepoint().multiply(s);
+            assertThat(FixedBaseTable.basepoint().vartimeMultiply(s).compress(), is(expected.compress()));
+            assertThat(Straus.vartimeMultiply(s, FixedBaseTable.BASEPOINT).vartimeEquals(expected), is(true));
+        }
+        assertThat(Straus.vartimeMultiply(Scalar.ZERO, FixedBaseTable.BASEPOINT).isIdentity(), is(true));
+    }
+
+    @Test
+    public void compressBatchMatchesCompress() {
+        Random r = new Random(5);
+        ExtendedPoint[] points = new ExtendedPoint[10];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = FixedBaseTable.basepoint().multiply(PippengerTest.randomScalar(r));
+        }
+        byte[][] encodings = ExtendedPoint.compressBatch(points);
+        for (int i = 0; i < points.length; i++) {
+            assertThat(encodings[i], is(points[i].compress()));
+        }
+    }
+
+    @Test
+    public void basepointResourceMatchesComputedTable() {
+        FixedBaseTable computed = new FixedBaseTable(FixedBaseTable.BASEPOINT, FixedBaseTable.BASEPOINT_WIDTH);
+        assertThat(FixedBaseTable.class.getResource(FixedBaseTable.BASEPOINT_RESOURCE), is(notNullValue()));
+        assertThat(FixedBaseTable.basepoint().toByteArray(), is(computed.toByteArray()));
+    }
+
+    @Test
+    public void serializationRoundTrips() {
+        Random r = new Random(7);
+        FixedBaseTable table = new FixedBaseTable(FixedBaseTable.BASEPOINT, 5);
+        FixedBaseTable decoded = FixedBaseTable.fromByteArray(table.toByteArray(), 5);
+        for (int i = 0; i < 8; i++) {
+            Scalar s = PippengerTest.randomScalar(r);
+            assertThat(decoded.multiply(s).compress(), is(table.multiply(s).compress()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromByteArrayRejectsWrongLength() {
+        FixedBaseTable.fromByteArray(new byte[96], 4);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Random;
+
+import cafe.cryptography.curve25519.Constants;
+import cafe.cryptography.curve25519.EdwardsPoint;
+import cafe.cryptography.curve25519.Scalar;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class PippengerTest {
+    static Scalar randomScalar(Random r) {
+        byte[] b = new byte[64];
+        r.nextBytes(b);
+        return Scalar.fromBytesModOrderWide(b);
+    }
+
+    @Test
+    public void asRadix2wRoundTrips() {
+        Random r = new Random(42);
+        for (int w = 4; w <= 8; w++) {
+            for (int i = 0; i < 16; i++) {
+                Scalar s = randomScalar(r);
+                byte[] digits = Pippenger.asRadix2w(s, w);
+                byte[] radixBytes = new byte[32];
+                radixBytes[w / 8] = (byte) (1 << (w % 8));
+                Scalar radix = Scalar.fromBits(radixBytes);
+                Scalar acc = Scalar.ZERO;
+                for (int j = digits.length - 1; j >= 0; j--) {
+                    acc = acc.multiply(radix).add(smallScalar(digits[j]));
+                }
+                assertThat(acc, is(s));
+            }
+        }
+    }
+
+    static Scalar smallScalar(int d) {
+        byte[] b = new byte[32];
+        b[0] = (byte) Math.abs(d);
+        Scalar s = Scalar.fromBits(b);
+        return d < 0 ? Scalar.ZERO.subtract(s) : s;
+    }
+
+    @Test
+    public void matchesStraus() {
+        Random r = new Random(7);
+        for (int n : new int[] { 0, 1, 2, 17, 300, 600, 900 }) {
+            Scalar[] scalars = new Scalar[n];
+            EdwardsPoint[] points = new EdwardsPoint[n];
+            for (int i = 0; i < n; i++) {
+                scalars[i] = randomScalar(r);
+                points[i] = Constants.ED25519_BASEPOINT_TABLE.multiply(randomScalar(r));
+            }
+            assertThat(Pippenger.vartimeMultiscalarMul(scalars, points),
+                    is(Straus.vartimeMultiscalarMul(scalars, points)));
+        }
+    }
+
+    @Test
+    public void matchesConstantTimeMultiply() {
+        Random r = new Random(9);
+        Scalar[] scalars = new Scalar[3];
+        EdwardsPoint[] points = new EdwardsPoint[3];
+        EdwardsPoint expected = EdwardsPoint.IDENTITY;
+        for (int i = 0; i < 3; i++) {
+            scalars[i] = randomScalar(r);
+            points[i] = Constants.ED25519_BASEPOINT_TABLE.multiply(randomScalar(r));
+            expected = expected.add(points[i].multiply(scalars[i]));
+        }
+        assertThat(Pippenger.vartimeMultiscalarMul(scalars, points), is(expected));
+        assertThat(Straus.vartimeMultiscalarMul(scalars, points), is(expected));
+    }
+}
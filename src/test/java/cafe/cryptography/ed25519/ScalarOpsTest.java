@@ -0,0 +1,64 @@
+/*
+ * This file is part of ed25519-elisabeth.
+ * Copyright (c) 2026 Jack Grigg
+ * See LICENSE for licensing information.
+ */
+
+package cafe.cryptography.ed25519;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import cafe.cryptography.curve25519.Scalar;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ScalarOpsTest {
+    @Test
+    public void fromBytesModOrderWideMatchesScalar() {
+        Random r = new Random(11);
+        byte[] input = new byte[64];
+        for (int i = 0; i < 1000; i++) {
+            r.nextBytes(input);
+            assertThat(ScalarOps.fromBytesModOrderWide(input), is(Scalar.fromBytesModOrderWide(input)));
+        }
+
+        Arrays.fill(input, (byte) 0xff);
+        assertThat(ScalarOps.fromBytesModOrderWide(input), is(Scalar.fromBytesModOrderWide(input)));
+        Arrays.fill(input, (byte) 0);
+        assertThat(ScalarOps.fromBytesModOrderWide(input), is(Scalar.ZERO));
+    }
+
+    @Test
+    public void multiplyAndAddMatchesScalar() {
+        Random r = new Random(13);
+        for (int i = 0; i < 1000; i++) {
+            Scalar a = PippengerTest.randomScalar(r);
+            Scalar b = PippengerTest.randomScalar(r);
+            Scalar c = PippengerTest.randomScalar(r);
+            assertThat(ScalarOps.multiplyAndAdd(a, b, c), is(a.multiplyAndAdd(b, c)));
+        }
+
+        Scalar minusOne = Scalar.ZERO.subtract(Scalar.ONE);
+        assertThat(ScalarOps.multiplyAndAdd(minusOne, minusOne, minusOne), is(Scalar.ZERO));
+    }
+
+    @Test
+    public void multiplyAndAddAcceptsClampedScalars() {
+        // Secret scalars are clamped but not reduced.
+        Random r = new Random(17);
+        byte[] bits = new byte[32];
+        for (int i = 0; i < 100; i++) {
+            r.nextBytes(bits);
+            bits[0] &= 248;
+            bits[31] &= 63;
+            bits[31] |= 64;
+            Scalar s = Scalar.fromBits(bits);
+            Scalar k = PippengerTest.randomScalar(r);
+            Scalar c = PippengerTest.randomScalar(r);
+            assertThat(ScalarOps.multiplyAndAdd(k, s, c), is(k.multiplyAndAdd(s, c)));
+        }
+    }
+}
@@ -11,16 +11,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import cafe.cryptography.curve25519.InvalidEncodingException;
 import org.junit.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Test against the ZIP 215 test vectors set.
  *
- * We don't explicitly check for success or failure; this is purely informative.
+ * All of the test vectors are valid under ZIP 215. We don't explicitly check
+ * for success or failure under the strict policy; this is purely informative.
  */
 public class Zip215TestVectors {
     public static class TestTuple {
@@ -78,4 +85,52 @@ public class Zip215TestVectors {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testVerifyZip215() throws InvalidEncodingException {
+        byte[] message = "Zcash".getBytes();
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        for (TestTuple testCase : testCases) {
+            Ed25519PublicKey vk = Ed25519PublicKey.fromByteArray(testCase.vk);
+            Ed25519Signature sig = Ed25519Signature.fromByteArray(testCase.signature);
+            String msg = "ZIP 215 test case " + testCase.caseNum + " failed";
+            assertTrue(msg, vk.verify(message, sig, Ed25519VerificationPolicy.ZIP215));
+            assertTrue(msg, vk.prepare().verify(message, sig, Ed25519VerificationPolicy.ZIP215));
+            assertTrue(msg, vk.verifier(sig, Ed25519VerificationPolicy.ZIP215).update(message).verify());
+            batch.queue(vk, message, sig);
+        }
+        assertTrue(batch.verify());
+        assertThat(batch.verifyEach().cardinality(), is(testCases.size()));
+    }
+
+    @Test
+    public void testVerifyAnyMatchesVerify() throws InvalidEncodingException {
+        byte[] message = "Zcash".getBytes();
+        for (TestTuple testCase : testCases) {
+            Ed25519PublicKey vk = Ed25519PublicKey.fromByteArray(testCase.vk);
+            Ed25519Signature sig = Ed25519Signature.fromByteArray(testCase.signature);
+            List<Ed25519PublicKey> candidates = Collections.singletonList(vk);
+            String msg = "ZIP 215 test case " + testCase.caseNum + " was inconsistent";
+            assertThat(msg, Ed25519PublicKey.verifyAny(candidates, message, sig) == 0, is(vk.verify(message, sig)));
+            assertThat(msg, Ed25519PublicKey.verifyAny(candidates, message, sig, Ed25519VerificationPolicy.ZIP215),
+                    is(0));
+        }
+    }
+
+    @Test
+    public void testIndependentVerifierMatchesVerify() throws InvalidEncodingException {
+        byte[] message = "Zcash".getBytes();
+        Ed25519IndependentVerifier strict = new Ed25519IndependentVerifier();
+        Ed25519IndependentVerifier zip215 = new Ed25519IndependentVerifier(Ed25519VerificationPolicy.ZIP215);
+        BitSet expected = new BitSet();
+        for (TestTuple testCase : testCases) {
+            Ed25519PublicKey vk = Ed25519PublicKey.fromByteArray(testCase.vk);
+            Ed25519Signature sig = Ed25519Signature.fromByteArray(testCase.signature);
+            expected.set(strict.size(), vk.verify(message, sig));
+            strict.queue(vk, message, sig);
+            zip215.queue(vk, message, sig);
+        }
+        assertThat(strict.verify(), is(expected));
+        assertThat(zip215.verify().cardinality(), is(testCases.size()));
+    }
+}
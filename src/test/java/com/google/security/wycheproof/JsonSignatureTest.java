@@ -14,7 +14,9 @@
 package com.google.security.wycheproof;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import cafe.cryptography.ed25519.Ed25519BatchVerifier;
 import cafe.cryptography.ed25519.Ed25519PublicKey;
 import cafe.cryptography.ed25519.Ed25519Signature;
 import com.google.gson.JsonElement;
@@ -247,10 +249,72 @@ public class JsonSignatureTest {
     }
   }
 
+  /**
+   * Tests batch signature verification with test vectors in a given JSON file.
+   *
+   * <p>Every test case is checked as a batch of one, and all valid test cases are then checked
+   * together as a single batch.
+   *
+   * @param filename the filename of the test vectors
+   */
+  public void testBatchVerification(String filename) throws Exception {
+    JsonObject test = JsonUtil.getTestVectors(filename);
+    int errors = 0;
+    Ed25519BatchVerifier validBatch = new Ed25519BatchVerifier();
+    for (JsonElement g : test.getAsJsonArray("testGroups")) {
+      JsonObject group = g.getAsJsonObject();
+      Ed25519PublicKey key = getPublicKey(group, "ED25519");
+      for (JsonElement t : group.getAsJsonArray("tests")) {
+        JsonObject testcase = t.getAsJsonObject();
+        byte[] message = getBytes(testcase, "msg");
+        byte[] signature = getBytes(testcase, "sig");
+        int tcid = testcase.get("tcId").getAsInt();
+        String result = getString(testcase, "result");
+        Ed25519Signature s;
+        try {
+          s = Ed25519Signature.fromByteArray(signature);
+        } catch (IllegalArgumentException ex) {
+          // Malformed signatures never reach the batch.
+          if (result.equals("valid")) {
+            errors++;
+          }
+          continue;
+        }
+        Ed25519BatchVerifier batch = new Ed25519BatchVerifier();
+        batch.queue(key, message, s);
+        boolean verified = batch.verify();
+        if (verified != result.equals("valid")) {
+          System.out.println(
+              "ED25519 batch of one returned "
+                  + verified
+                  + " for "
+                  + result
+                  + " signature. "
+                  + filename
+                  + " tcId:"
+                  + tcid
+                  + " sig:"
+                  + TestUtil.bytesToHex(signature));
+          errors++;
+        }
+        if (result.equals("valid")) {
+          validBatch.queue(key, message, s);
+        }
+      }
+    }
+    assertEquals(0, errors);
+    assertTrue(validBatch.verify());
+  }
+
   @Test
   public void testEd25519Verify() throws Exception {
     testVerification("eddsa_test.json", "ED25519", Format.RAW, true);
   }
 
+  @Test
+  public void testEd25519BatchVerify() throws Exception {
+    testBatchVerification("eddsa_test.json");
+  }
+
 }
 